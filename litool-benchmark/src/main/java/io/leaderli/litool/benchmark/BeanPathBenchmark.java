@@ -0,0 +1,54 @@
+package io.leaderli.litool.benchmark;
+
+import io.leaderli.litool.core.lang.BeanPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BeanPath#parse(Object, String)} 和 {@link BeanPath#compile(String)} 在 map 和对象上的取值
+ *
+ * @author leaderli
+ * @since 2022/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanPathBenchmark {
+
+    private final Map<String, Object> customerMap = Fixtures.customerMap(10, 5);
+    private final Fixtures.Customer customer = Fixtures.customer(10, 5);
+    private final BeanPath compiled = BeanPath.compile("orders[3].items[-1].name");
+
+    @Benchmark
+    public Object simpleKey() {
+        return BeanPath.parse(customerMap, "name").get();
+    }
+
+    @Benchmark
+    public Object nestedMap() {
+        return BeanPath.parse(customerMap, "orders[3].items[-1].name").get();
+    }
+
+    @Benchmark
+    public Object nestedBean() {
+        return BeanPath.parse(customer, "orders[3].items[-1].name").get();
+    }
+
+    @Benchmark
+    public Object nestedBeanCompiled() {
+        return compiled.parse(customer).get();
+    }
+}
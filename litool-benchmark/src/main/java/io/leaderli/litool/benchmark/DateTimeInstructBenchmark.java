@@ -0,0 +1,94 @@
+package io.leaderli.litool.benchmark;
+
+import io.leaderli.litool.runner.constant.DateUnitEnum;
+import io.leaderli.litool.runner.constant.OperatorEnum;
+import io.leaderli.litool.runner.instruct.BetweenTimeInstruct;
+import io.leaderli.litool.runner.instruct.DateCompareInstruct;
+import io.leaderli.litool.runner.instruct.DatePlusInstruct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 日期时间指令与每次调用都创建格式器的原实现的对比
+ *
+ * @author leaderli
+ * @since 2022/8/16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTimeInstructBenchmark {
+
+    private final BetweenTimeInstruct betweenTime = new BetweenTimeInstruct();
+    private final DateCompareInstruct dateCompare = new DateCompareInstruct();
+    private final DatePlusInstruct datePlus = new DatePlusInstruct();
+
+    public String left = "0830";
+    public String right = "1730";
+    public String now = "1205";
+    public String date = "20220816";
+    public String other = "20221001";
+
+    @Benchmark
+    public Boolean betweenTime() {
+        return betweenTime.invoke(left, right, now);
+    }
+
+    @Benchmark
+    public Boolean betweenTimeOrigin() {
+        DateTimeFormatter HHmm = DateTimeFormatter.ofPattern("HHmm");
+
+        LocalTime leftTime = LocalTime.parse(left, HHmm);
+        LocalTime rightTime = LocalTime.parse(right, HHmm);
+        LocalTime nowTime = LocalTime.parse(now, HHmm);
+
+        if (leftTime.compareTo(rightTime) < 0) {
+            return OperatorEnum.GREATER_THAN.apply(nowTime, leftTime) && OperatorEnum.LESS_THAN.apply(nowTime,
+                    rightTime);
+        } else {
+            return OperatorEnum.GREATER_THAN.apply(nowTime, leftTime) || OperatorEnum.LESS_THAN.apply(nowTime,
+                    rightTime);
+        }
+    }
+
+    @Benchmark
+    public Boolean dateCompare() {
+        return dateCompare.invoke(OperatorEnum.LESS_THAN, date, other);
+    }
+
+    @Benchmark
+    public Boolean dateCompareOrigin() {
+        DateTimeFormatter yyyyMMdd = DateTimeFormatter.ofPattern("yyyyMMdd");
+        LocalDate leftDate = LocalDate.parse(date, yyyyMMdd);
+        LocalDate rightDate = LocalDate.parse(other, yyyyMMdd);
+
+        return OperatorEnum.LESS_THAN.apply(leftDate, rightDate);
+    }
+
+    @Benchmark
+    public String datePlus() {
+        return datePlus.invoke(date, DateUnitEnum.DAY, 30);
+    }
+
+    @Benchmark
+    public String datePlusOrigin() {
+        DateTimeFormatter yyyyMMdd = DateTimeFormatter.ofPattern("yyyyMMdd");
+        LocalDate localDate = LocalDate.parse(date, yyyyMMdd);
+        return localDate.plusDays(30).format(yyyyMMdd);
+    }
+}
@@ -0,0 +1,128 @@
+package io.leaderli.litool.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基准测试共用的数据
+ *
+ * @author leaderli
+ * @since 2022/10/17
+ */
+public class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * @param orders 订单数
+     * @param items  每个订单的商品数
+     * @return 嵌套的客户对象
+     */
+    public static Customer customer(int orders, int items) {
+        Customer customer = new Customer();
+        customer.name = "leaderli";
+        customer.age = 30;
+        customer.address = new Address();
+        customer.address.city = "shanghai";
+        customer.address.street = "century avenue";
+        customer.orders = new ArrayList<>();
+        for (int i = 0; i < orders; i++) {
+            Order order = new Order();
+            order.id = "order-" + i;
+            order.amount = i * 10.5;
+            order.items = new ArrayList<>();
+            for (int j = 0; j < items; j++) {
+                Item item = new Item();
+                item.name = "item-" + j;
+                item.count = j;
+                order.items.add(item);
+            }
+            customer.orders.add(order);
+        }
+        return customer;
+    }
+
+    /**
+     * @return 与 {@link #customer(int, int)} 结构相同的 map
+     */
+    public static Map<String, Object> customerMap(int orders, int items) {
+        Map<String, Object> address = new HashMap<>();
+        address.put("city", "shanghai");
+        address.put("street", "century avenue");
+
+        List<Object> orderList = new ArrayList<>();
+        for (int i = 0; i < orders; i++) {
+            List<Object> itemList = new ArrayList<>();
+            for (int j = 0; j < items; j++) {
+                Map<String, Object> item = new HashMap<>();
+                item.put("name", "item-" + j);
+                item.put("count", j);
+                itemList.add(item);
+            }
+            Map<String, Object> order = new HashMap<>();
+            order.put("id", "order-" + i);
+            order.put("amount", i * 10.5);
+            order.put("items", itemList);
+            orderList.add(order);
+        }
+
+        Map<String, Object> customer = new HashMap<>();
+        customer.put("name", "leaderli");
+        customer.put("age", 30);
+        customer.put("address", address);
+        customer.put("orders", orderList);
+        return customer;
+    }
+
+    /**
+     * @param size 请求数
+     * @return runner_test.xml 的请求报文，覆盖各个分支
+     */
+    public static List<Map<String, String>> runnerRequests(int size) {
+        String[][] cases = {
+                {"bfzType", "1"},
+                {"bfzType", "2"},
+                {"bfzType", "0", "switch86", "0", "_env", "local_test", "_testTime", "2300"},
+                {"language", "1", "_env", "local_test", "_testTime", "1200"},
+                {"isBankInline", "1", "_env", "local_test", "_testTime", "1200"},
+                {"phoneType", "201", "_env", "local_test", "_testTime", "1200"},
+                {"custType", "3", "_env", "local_test", "_testTime", "1200"},
+        };
+        List<Map<String, String>> requests = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String[] kv = cases[i % cases.length];
+            Map<String, String> request = new HashMap<>();
+            for (int j = 0; j < kv.length; j += 2) {
+                request.put(kv[j], kv[j + 1]);
+            }
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    public static class Customer {
+        public String name;
+        public int age;
+        public Address address;
+        public List<Order> orders;
+    }
+
+    public static class Address {
+        public String city;
+        public String street;
+    }
+
+    public static class Order {
+        public String id;
+        public double amount;
+        public List<Item> items;
+    }
+
+    public static class Item {
+        public String name;
+        public int count;
+    }
+}
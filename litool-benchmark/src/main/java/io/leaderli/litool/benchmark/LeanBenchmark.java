@@ -0,0 +1,57 @@
+package io.leaderli.litool.benchmark;
+
+import io.leaderli.litool.core.lang.lean.Lean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Lean#fromBean(Object, Class)} 在嵌套对象与 map 之间的转换
+ *
+ * @author leaderli
+ * @since 2022/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeanBenchmark {
+
+    private final Lean lean = new Lean();
+    private final Fixtures.Customer customer = Fixtures.customer(10, 5);
+    private final Map<String, Object> customerMap = Fixtures.customerMap(10, 5);
+
+    @Benchmark
+    public Fixtures.Customer mapToBean() {
+        return lean.fromBean(customerMap, Fixtures.Customer.class);
+    }
+
+    @Benchmark
+    public Map<?, ?> beanToMap() {
+        return lean.fromBean(customer, Map.class);
+    }
+
+    @Benchmark
+    public Fixtures.Customer beanToBean() {
+        return lean.fromBean(customer, Fixtures.Customer.class);
+    }
+
+    /**
+     * 每次使用新的 Lean，包含适配器的创建开销
+     */
+    @Benchmark
+    public Fixtures.Customer mapToBeanCold() {
+        return new Lean().fromBean(customerMap, Fixtures.Customer.class);
+    }
+}
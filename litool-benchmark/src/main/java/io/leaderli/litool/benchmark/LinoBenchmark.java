@@ -0,0 +1,47 @@
+package io.leaderli.litool.benchmark;
+
+import io.leaderli.litool.core.meta.Lino;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Lino} 的链式调用
+ *
+ * @author leaderli
+ * @since 2022/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinoBenchmark {
+
+    private final Fixtures.Customer customer = Fixtures.customer(2, 2);
+    private final Object object = "123";
+
+    @Benchmark
+    public String mapChain() {
+        return Lino.of(customer).map(c -> c.address).map(a -> a.city).map(String::toUpperCase).get();
+    }
+
+    @Benchmark
+    public Object mapChainNone() {
+        return Lino.of(customer).map(c -> c.address).map(a -> (String) null).map(String::length).get();
+    }
+
+    @Benchmark
+    public Integer castFilter() {
+        return Lino.of(object).cast(String.class).filter(s -> !s.isEmpty()).map(Integer::valueOf).get();
+    }
+}
@@ -0,0 +1,103 @@
+package io.leaderli.litool.benchmark;
+
+import io.leaderli.litool.core.meta.Lira;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * {@link Lira} 常用流水线，以 {@link java.util.stream.Stream} 作为对照
+ *
+ * @author leaderli
+ * @since 2022/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LiraBenchmark {
+
+    @Param({"10", "1000"})
+    public int size;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> filterMapGet() {
+        return Lira.of(list).filter(i -> i % 2 == 0).map(i -> i * 3).get();
+    }
+
+    @Benchmark
+    public List<Integer> filterMapGetStream() {
+        return list.stream().filter(i -> i % 2 == 0).map(i -> i * 3).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Object first() {
+        return Lira.of(list).filter(i -> i > size / 2).first().get();
+    }
+
+    @Benchmark
+    public List<String> castSkipLimit() {
+        return Lira.of(list).map(String::valueOf).skip(1).limit(size / 2).cast(String.class).get();
+    }
+
+    @Benchmark
+    public List<Integer> distinct() {
+        return Lira.of(list).map(i -> i % 100).distinct().get();
+    }
+
+    @Benchmark
+    public List<Integer> distinctBy() {
+        return Lira.of(list).distinctBy(i -> i % 100).get();
+    }
+
+    @Benchmark
+    public List<Integer> heavyMap() {
+        return Lira.of(list).map(LiraBenchmark::work).get();
+    }
+
+    @Benchmark
+    public List<Integer> heavyMapParallel() {
+        return Lira.of(list).parallel().map(LiraBenchmark::work).get();
+    }
+
+    @Benchmark
+    public Object reduce() {
+        return Lira.of(list).reduce(Integer::sum).get();
+    }
+
+    /**
+     * 模拟耗时的转换
+     */
+    private static int work(int i) {
+        int hash = i;
+        for (int k = 0; k < 1000; k++) {
+            hash = hash * 31 + k;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,93 @@
+package io.leaderli.litool.benchmark;
+
+import io.leaderli.litool.dom.parser.SaxEventInterceptor;
+import io.leaderli.litool.runner.Context;
+import io.leaderli.litool.runner.executor.MainElementExecutor;
+import io.leaderli.litool.runner.plan.MainPlan;
+import io.leaderli.litool.runner.xml.MainElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 执行 runner_test.xml，对比 {@link MainElementExecutor#visit(Context)} 与编译后的 {@link MainPlan}
+ *
+ * @author leaderli
+ * @since 2022/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RunnerBenchmark {
+
+    private static final int BATCH = 1000;
+
+    private MainElementExecutor executor;
+    private MainPlan plan;
+    private List<Map<String, String>> requests;
+    private ForkJoinPool pool;
+    private int index;
+
+    @Setup
+    public void setup() {
+        MainElement mainElement = new SaxEventInterceptor<>(MainElement.class).parse("runner_test.xml");
+        executor = new MainElementExecutor(mainElement);
+        plan = MainPlan.compile(mainElement);
+        requests = Fixtures.runnerRequests(BATCH);
+        pool = new ForkJoinPool();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    private Map<String, String> nextRequest() {
+        index = (index + 1) % BATCH;
+        return requests.get(index);
+    }
+
+    @Benchmark
+    public Object visit() {
+        Context context = new Context(nextRequest());
+        executor.visit(context);
+        return context.getResponse("skill");
+    }
+
+    @Benchmark
+    public Object plan() {
+        Context context = plan.newContext();
+        context.reset(nextRequest());
+        plan.execute(context);
+        return context.getResponse("skill");
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Map<String, Object>> planBatch() {
+        return plan.executeBatch(requests);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Map<String, Object>> planBatchParallel() {
+        return plan.executeBatch(requests, pool);
+    }
+}
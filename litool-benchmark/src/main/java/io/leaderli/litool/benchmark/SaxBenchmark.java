@@ -0,0 +1,60 @@
+package io.leaderli.litool.benchmark;
+
+import io.leaderli.litool.core.resource.ResourceUtil;
+import io.leaderli.litool.dom.parser.SaxEventInterceptor;
+import io.leaderli.litool.runner.xml.MainElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 使用 {@link SaxEventInterceptor#parse(InputStream)} 解析 runner 脚本，xml 预先读入内存，不包含文件读取的开销
+ *
+ * @author leaderli
+ * @since 2022/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaxBenchmark {
+
+    private byte[] xml;
+
+    static byte[] read(String path) throws IOException {
+        try (InputStream in = ResourceUtil.getResourceAsStream(path)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        xml = read("runner_test.xml");
+    }
+
+    @Benchmark
+    public MainElement parse() {
+        return new SaxEventInterceptor<>(MainElement.class).parse(new ByteArrayInputStream(xml));
+    }
+}
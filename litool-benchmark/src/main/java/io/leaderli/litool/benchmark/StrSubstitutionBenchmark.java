@@ -0,0 +1,79 @@
+package io.leaderli.litool.benchmark;
+
+import io.leaderli.litool.core.text.StrSubstitution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StrSubstitution} 的模板替换
+ *
+ * @author leaderli
+ * @since 2022/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrSubstitutionBenchmark {
+
+    private static final String TEMPLATE = "customer {name} from {city} has {count} orders, last order is {order}";
+    private static final StrSubstitution.Template COMPILED = StrSubstitution.compile(TEMPLATE);
+    private final Map<String, Object> variables = new HashMap<>();
+    private final StringBuilder builder = new StringBuilder();
+    private final Fixtures.Customer customer = Fixtures.customer(10, 5);
+
+    {
+        variables.put("name", "leaderli");
+        variables.put("city", "shanghai");
+        variables.put("count", 10);
+        variables.put("order", "order-9");
+    }
+
+    @Benchmark
+    public String format() {
+        return StrSubstitution.format(TEMPLATE, variables::get);
+    }
+
+    @Benchmark
+    public String formatCompiled() {
+        return COMPILED.format(variables::get);
+    }
+
+    /**
+     * 复用调用方的 StringBuilder
+     */
+    @Benchmark
+    public int renderCompiled() {
+        builder.setLength(0);
+        return COMPILED.render(builder, variables::get).length();
+    }
+
+    @Benchmark
+    public String formatArgs() {
+        return StrSubstitution.format(TEMPLATE, "leaderli", "shanghai", 10, "order-9");
+    }
+
+    @Benchmark
+    public String forMap() {
+        return StrSubstitution.forMap(TEMPLATE, variables);
+    }
+
+    @Benchmark
+    public String beanPath() {
+        return StrSubstitution.beanPath("customer {name} from {address.city} ordered {orders[0].items[1].name}",
+                customer);
+    }
+}
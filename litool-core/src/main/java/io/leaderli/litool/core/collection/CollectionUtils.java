@@ -210,7 +210,7 @@ public class CollectionUtils {
     public static <T> Lira<T> xor(Iterable<T> a, Iterable<T> b) {
 
         Lira<T> union = union(a, b);
-        List<T> intersection = intersection(a, b).get();
+        Set<T> intersection = new HashSet<>(intersection(a, b).get());
         return union.filter(e -> !intersection.contains(e));
     }
 
@@ -226,11 +226,10 @@ public class CollectionUtils {
     public static <T> Lira<T> union(Iterable<T> a, Iterable<T> b) {
 
 
-        Lira<T> left = Lira.of(a).distinct();
         if (b == null) {
-            return left;
+            return Lira.of(a).distinct();
         }
-        List<T> raw = left.get();
+        List<T> raw = Lira.of(a).get();
 
         b.forEach(raw::add);
 
@@ -286,7 +285,7 @@ public class CollectionUtils {
         List<T> result = new ArrayList<>();
 
 
-        List<T> raw = Lira.of(b).get();
+        Set<T> raw = new HashSet<>(Lira.of(b).get());
 
 
         if (a == null) {
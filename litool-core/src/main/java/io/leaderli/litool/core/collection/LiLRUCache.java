@@ -0,0 +1,148 @@
+package io.leaderli.litool.core.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * a thread-safe cache with fixed capacity, the least recently used entries will be removed when the cache is full.
+ * <p>
+ * the entries are stored in a {@link ConcurrentHashMap}, reading is lock-free, an entry only records the clock of its
+ * last access, the clock advances when a new entry is put, so the recency is approximate between two puts. when the
+ * cache is full, the eldest entries are removed in batch by the thread that puts, so the size may exceed the capacity
+ * for a while under concurrent puts
+ *
+ * @param <K> the type of key
+ * @param <V> the type of value
+ * @author leaderli
+ * @since 2022/10/17
+ */
+public class LiLRUCache<K, V> {
+
+    public final int capacity;
+    /**
+     * the number of entries to keep after eviction, evict several entries at once to amortize the cost of scanning
+     */
+    private final int retain;
+    private final Map<K, Node<V>> cache = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public LiLRUCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("the capacity of cache should be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.retain = capacity - capacity / 16;
+    }
+
+    /**
+     * @param key the key
+     * @return the cached value, or null if absent
+     */
+    public V get(K key) {
+        Node<V> node = cache.get(key);
+        if (node == null) {
+            return null;
+        }
+        node.touch(clock.get());
+        return node.value;
+    }
+
+    /**
+     * Return the cached value, if absent, compute it by mappingFunction and cache the non-null result. the
+     * mappingFunction is called without lock, so it may be called more than once for the same key concurrently,
+     * and it can use this cache recursively
+     *
+     * @param key             the key
+     * @param mappingFunction the function to compute value
+     * @return the cached or computed value
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        value = mappingFunction.apply(key);
+        if (value != null) {
+            Node<V> old = cache.putIfAbsent(key, new Node<>(value, clock.getAndIncrement()));
+            if (old != null) {
+                old.touch(clock.get());
+                return old.value;
+            }
+            if (cache.size() > capacity) {
+                evict();
+            }
+        }
+        return value;
+    }
+
+    private void evict() {
+        // the puts during eviction skip evicting, so check again after the eviction is done
+        while (cache.size() > capacity && evicting.compareAndSet(false, true)) {
+            try {
+                evictEldest();
+            } finally {
+                evicting.set(false);
+            }
+        }
+    }
+
+    private void evictEldest() {
+        // the access clock is copied, so it does not change while sorting
+        List<Eviction<K, V>> entries = new ArrayList<>(cache.size());
+        cache.forEach((key, node) -> entries.add(new Eviction<>(key, node)));
+        int remove = entries.size() - retain;
+        if (remove <= 0) {
+            return;
+        }
+        entries.sort((a, b) -> Long.compare(a.accessed, b.accessed));
+        for (int i = 0; i < remove; i++) {
+            Eviction<K, V> entry = entries.get(i);
+            cache.remove(entry.key, entry.node);
+        }
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private static final class Node<V> {
+
+        private final V value;
+        private volatile long accessed;
+
+        private Node(V value, long accessed) {
+            this.value = value;
+            this.accessed = accessed;
+        }
+
+        private void touch(long now) {
+            // avoid writing the shared node when it is read repeatedly between two puts
+            if (accessed != now) {
+                accessed = now;
+            }
+        }
+    }
+
+    private static final class Eviction<K, V> {
+
+        private final K key;
+        private final Node<V> node;
+        private final long accessed;
+
+        private Eviction(K key, Node<V> node) {
+            this.key = key;
+            this.node = node;
+            this.accessed = node.accessed;
+        }
+    }
+}
@@ -6,7 +6,10 @@ package io.leaderli.litool.core.event;
  * The LiEventBus allows publish-listen-style communication between components without requiring the
  * components to explicitly register with one another
  * <p>
- * when an event is pushed , all registered listeners listen for this particular event will receive the event
+ * when an event is pushed , all registered listeners listen for this particular event, its superclasses or
+ * interfaces will receive the event
+ * <p>
+ * the listeners can be registered, unregistered and the events can be pushed from different threads
  */
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class LiEventBus implements LiEventBusBehavior {
@@ -39,8 +42,7 @@ public class LiEventBus implements LiEventBusBehavior {
         if (event == null) {
             return;
         }
-        Class<T> eventType = (Class<T>) event.getClass();
-        liEventMap.compute(eventType, listener -> {
+        for (ILiEventListener listener : liEventMap.listeners(event.getClass())) {
 
             if (listener.before(event)) {
 
@@ -49,12 +51,12 @@ public class LiEventBus implements LiEventBusBehavior {
                     listener.listen(event);
                 } catch (Throwable throwable) {
                     listener.onError(throwable);
-                    return;
+                    continue;
                 }
                 listener.after(this);
             }
 
-        });
+        }
     }
 
 
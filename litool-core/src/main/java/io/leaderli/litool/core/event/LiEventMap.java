@@ -1,24 +1,50 @@
 package io.leaderli.litool.core.event;
 
-import io.leaderli.litool.core.meta.Lira;
 import io.leaderli.litool.core.type.ComponentType;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 /**
  * A Map container used to store the class type of the listener event and the listener.
  * the generic type of the listener and the event is same.
  * <p>
- * This container is not thread-safe
+ * This container is thread-safe, the listeners of each event type is a copy-on-write snapshot, the listeners of
+ * an event class are the listeners of the event class, its superclasses and interfaces, they are resolved once and
+ * cached until the listeners changed
  */
 
 class LiEventMap {
 
-    private final Map<Class<?>, List<ILiEventListener<?>>> eventListenerMap = new HashMap<>();
+    private static final ILiEventListener<?>[] EMPTY = new ILiEventListener<?>[0];
+    /**
+     * the event class, its superclasses, and then its interfaces
+     */
+    private static final ClassValue<Class<?>[]> HIERARCHY = new ClassValue<Class<?>[]>() {
+        @Override
+        protected Class<?>[] computeValue(Class<?> type) {
+            Set<Class<?>> hierarchy = new LinkedHashSet<>();
+            for (Class<?> cls = type; cls != null; cls = cls.getSuperclass()) {
+                hierarchy.add(cls);
+            }
+            Deque<Class<?>> pending = new ArrayDeque<>(hierarchy);
+            while (!pending.isEmpty()) {
+                for (Class<?> in : pending.pop().getInterfaces()) {
+                    if (hierarchy.add(in)) {
+                        pending.add(in);
+                    }
+                }
+            }
+            return hierarchy.toArray(new Class<?>[0]);
+        }
+    };
+
+    private final Map<Class<?>, List<ILiEventListener<?>>> eventListenerMap = new ConcurrentHashMap<>();
+    /**
+     * the listeners of event class, it's cleared when listeners changed
+     */
+    private final Map<Class<?>, ILiEventListener<?>[]> dispatchCache = new ConcurrentHashMap<>();
 
     /**
      * Putting the event type and corresponding listener
@@ -27,12 +53,15 @@ class LiEventMap {
      * @param listener  the corresponding listener that listen for the event
      * @param <T>       the type of event and the corresponding listener componentType
      */
-    public <T> void put(Class<T> eventType, ILiEventListener<T> listener) {
+    public synchronized <T> void put(Class<T> eventType, ILiEventListener<T> listener) {
 
-        List<ILiEventListener<?>> listeners = this.eventListenerMap.computeIfAbsent(eventType, c -> new ArrayList<>());
+        List<ILiEventListener<?>> listeners = this.eventListenerMap.getOrDefault(eventType, Collections.emptyList());
 
         if (!listeners.contains(listener)) {
-            listeners.add(listener);
+            List<ILiEventListener<?>> copy = new ArrayList<>(listeners);
+            copy.add(listener);
+            this.eventListenerMap.put(eventType, Collections.unmodifiableList(copy));
+            this.dispatchCache.clear();
         }
     }
 
@@ -42,22 +71,47 @@ class LiEventMap {
      * @param eventType the type of event
      * @param consumer  the action that perform on the corresponding listeners
      * @param <T>       the type of event and the corresponding listener componentType
+     * @see #listeners(Class)
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    @SuppressWarnings("unchecked")
     public <T> void compute(Class<T> eventType, Consumer<ILiEventListener<T>> consumer) {
 
         if (consumer == null || eventType == null) {
             return;
         }
 
-        //  because listener may be remove themself in consumer, so it should not directly forEach List
-        List<ILiEventListener> lira = Lira.of(this.eventListenerMap.get(eventType))
-                .cast(ILiEventListener.class).get();
+        for (ILiEventListener<?> listener : listeners(eventType)) {
+            consumer.accept((ILiEventListener<T>) listener);
+
+        }
+    }
+
+    /**
+     * the listeners may be removed during the traversal of the returned array, the array is a snapshot and will not
+     * change, it should not be modified
+     *
+     * @param eventType the type of event
+     * @return the listeners of the event type and its superclasses, interfaces
+     */
+    ILiEventListener<?>[] listeners(Class<?> eventType) {
+
+        ILiEventListener<?>[] listeners = dispatchCache.get(eventType);
+        if (listeners == null) {
+            // resolve under the same lock with put and remove, so the cleared cache will not be overridden
+            synchronized (this) {
+                listeners = dispatchCache.computeIfAbsent(eventType, this::resolve);
+            }
+        }
+        return listeners;
+    }
 
-        for (ILiEventListener<T> listener : lira) {
-            consumer.accept(listener);
+    private ILiEventListener<?>[] resolve(Class<?> eventType) {
 
+        List<ILiEventListener<?>> resolved = new ArrayList<>();
+        for (Class<?> type : HIERARCHY.get(eventType)) {
+            resolved.addAll(eventListenerMap.getOrDefault(type, Collections.emptyList()));
         }
+        return resolved.isEmpty() ? EMPTY : resolved.toArray(EMPTY);
     }
 
 
@@ -68,7 +122,7 @@ class LiEventMap {
      * @param listener the listener will be removed
      * @param <T>      the type of listener corresponding event
      */
-    public <T> void remove(ILiEventListener<T> listener) {
+    public synchronized <T> void remove(ILiEventListener<T> listener) {
 
         Class<T> eventType = ComponentType.componentType(listener);
 
@@ -77,11 +131,17 @@ class LiEventMap {
         if (listeners == null) {
             return;
         }
-        listeners.removeIf(item -> item == listener);
+        List<ILiEventListener<?>> copy = new ArrayList<>(listeners);
+        if (!copy.removeIf(item -> item == listener)) {
+            return;
+        }
 
-        if (listeners.isEmpty()) {
+        if (copy.isEmpty()) {
             this.eventListenerMap.remove(eventType);
+        } else {
+            this.eventListenerMap.put(eventType, Collections.unmodifiableList(copy));
         }
+        this.dispatchCache.clear();
     }
 
 
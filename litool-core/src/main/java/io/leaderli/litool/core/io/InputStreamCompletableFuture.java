@@ -4,11 +4,11 @@ import io.leaderli.litool.core.concurrent.CatchFuture;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -39,12 +39,18 @@ public class InputStreamCompletableFuture implements CatchFuture<String> {
         this.task = CompletableFuture.supplyAsync(() -> read(inputStream, charset));
     }
 
+    /**
+     * @param inputStream the inputStream
+     * @param charset     the charset of inputStream
+     * @param executor    the executor to read the inputStream
+     */
+    public InputStreamCompletableFuture(InputStream inputStream, Charset charset, Executor executor) {
+        this.task = CompletableFuture.supplyAsync(() -> read(inputStream, charset), executor);
+    }
+
     String read(InputStream inputStream, Charset charset) {
-        try (InputStreamReader reader = new InputStreamReader(inputStream, charset)) {
-            int read;
-            while ((read = inputStream.read()) != -1) {
-                buffer.append((char) read);
-            }
+        try (InputStream in = inputStream) {
+            InputStreamDecoder.decode(in, charset, buffer::append);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -0,0 +1,123 @@
+package io.leaderli.litool.core.io;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * decode the bytes of inputStream to chars by {@link CharsetDecoder}, the bytes are read by block into a buffer
+ * reused by the thread. the {@link FileInputStream} is read by it's {@link java.nio.channels.FileChannel} directly.
+ * the malformed or unmappable bytes are replaced, the same as {@link java.io.InputStreamReader}
+ * <p>
+ * the decoded chars are delivered as soon as they are read, so the inputStream that never end, such as the stdout of
+ * {@code tail -f}, can be consumed continuously
+ *
+ * @author leaderli
+ * @since 2022/10/17
+ */
+public class InputStreamDecoder {
+
+    /**
+     * the size of the byte buffer and the char buffer
+     */
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    private InputStreamDecoder() {
+    }
+
+    /**
+     * decode the inputStream until the end of it, the inputStream is not closed
+     *
+     * @param inputStream the inputStream
+     * @param charset     the charset of inputStream
+     * @param consumer    the consumer of the decoded chars, the chars should not be kept after accept
+     * @throws IOException if an I/O error occurs
+     */
+    public static void decode(InputStream inputStream, Charset charset, CharsConsumer consumer) throws IOException {
+
+        Buffers buffers = BUFFERS.get();
+        // the consumer may decode another inputStream on the same thread
+        if (buffers.inUse) {
+            buffers = new Buffers();
+        }
+        buffers.inUse = true;
+        try {
+            decode(channel(inputStream), charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE), buffers, consumer);
+        } finally {
+            buffers.inUse = false;
+        }
+    }
+
+    private static ReadableByteChannel channel(InputStream inputStream) {
+        if (inputStream instanceof FileInputStream) {
+            return ((FileInputStream) inputStream).getChannel();
+        }
+        return Channels.newChannel(inputStream);
+    }
+
+    private static void decode(ReadableByteChannel channel, CharsetDecoder decoder, Buffers buffers,
+                               CharsConsumer consumer) throws IOException {
+
+        ByteBuffer bytes = buffers.bytes;
+        CharBuffer chars = buffers.chars;
+        // call by Buffer, the covariant overrides of ByteBuffer and CharBuffer are absent at java 8
+        ((Buffer) bytes).clear();
+        ((Buffer) chars).clear();
+
+        boolean eof = false;
+        while (!eof) {
+            eof = channel.read(bytes) == -1;
+            ((Buffer) bytes).flip();
+            while (decoder.decode(bytes, chars, eof).isOverflow()) {
+                deliver(chars, consumer);
+            }
+            bytes.compact();
+            deliver(chars, consumer);
+        }
+        CoderResult result;
+        do {
+            result = decoder.flush(chars);
+            deliver(chars, consumer);
+        } while (result.isOverflow());
+    }
+
+    private static void deliver(CharBuffer chars, CharsConsumer consumer) {
+        if (chars.position() > 0) {
+            consumer.accept(chars.array(), chars.arrayOffset(), chars.position());
+            ((Buffer) chars).clear();
+        }
+    }
+
+    /**
+     * the consumer of decoded chars, such as {@link StringBuilder#append(char[], int, int)}
+     */
+    @FunctionalInterface
+    public interface CharsConsumer {
+
+        /**
+         * @param chars  the chars
+         * @param offset the offset of the first decoded char
+         * @param length the number of decoded chars
+         */
+        void accept(char[] chars, int offset, int length);
+    }
+
+    private static class Buffers {
+        private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+        private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+        private boolean inUse;
+    }
+}
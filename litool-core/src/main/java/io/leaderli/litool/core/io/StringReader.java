@@ -2,7 +2,6 @@ package io.leaderli.litool.core.io;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.util.function.Supplier;
@@ -32,12 +31,14 @@ public class StringReader implements Supplier<String> {
         return sb.toString();
     }
 
+    /**
+     * read the inputStream until the end of it, and close it
+     *
+     * @see InputStreamDecoder#decode(InputStream, Charset, InputStreamDecoder.CharsConsumer)
+     */
     public void read() {
-        try (InputStreamReader reader = new InputStreamReader(this.inputStream, charset)) {
-            int read;
-            while ((read = inputStream.read()) != -1) {
-                sb.append((char) read);
-            }
+        try (InputStream in = this.inputStream) {
+            InputStreamDecoder.decode(in, charset, sb::append);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
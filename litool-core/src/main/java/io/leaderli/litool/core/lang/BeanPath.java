@@ -1,12 +1,16 @@
 package io.leaderli.litool.core.lang;
 
 import io.leaderli.litool.core.collection.IterableItr;
+import io.leaderli.litool.core.collection.LiLRUCache;
 import io.leaderli.litool.core.meta.Lino;
 import io.leaderli.litool.core.meta.Lira;
 import io.leaderli.litool.core.text.StringConvert;
 import io.leaderli.litool.core.text.StringUtils;
 import io.leaderli.litool.core.type.ReflectUtil;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
 import java.util.*;
 import java.util.function.Function;
 
@@ -29,6 +33,12 @@ public class BeanPath {
     private static final char CHAR_ARR_END = ']';
     private static final char CHAR_VARIABLE_SPLIT = '.';
 
+    /**
+     * the max number of compiled expressions kept by {@link #compile(String)}
+     */
+    public static final int CACHE_CAPACITY = 256;
+    private static final LiLRUCache<String, BeanPath> CACHE = new LiLRUCache<>(CACHE_CAPACITY);
+
 
     private final List<Function<Object, Object>> path = new ArrayList<>();
     private final Deque<Function<Lino<Object>, Object>> filters_stack = new ArrayDeque<>();
@@ -46,9 +56,29 @@ public class BeanPath {
 
     public static Lino<Object> parse(Object obj, String expression) {
 
-        BeanPath beanPath = new BeanPath();
-        beanPath.build(expression);
-        return beanPath.parse(obj);
+        return compile(expression).parse(obj);
+    }
+
+    /**
+     * Return the compiled expression, it's immutable and thread-safe, the field of each key is resolved once for
+     * each class, the index of array and {@link RandomAccess} list is accessed directly. the compiled expressions
+     * are cached, at most {@link #CACHE_CAPACITY} expressions are kept
+     *
+     * @param expression the xpath-like expression
+     * @return the compiled expression
+     * @throws IllegalStateException if expression is illegal
+     * @see #build(String)
+     */
+    public static BeanPath compile(String expression) {
+
+        if (StringUtils.isBlank(expression)) {
+            throw new IllegalStateException(" expression is null");
+        }
+        return CACHE.computeIfAbsent(expression, exp -> {
+            BeanPath beanPath = new BeanPath();
+            beanPath.build(exp);
+            return beanPath;
+        });
     }
 
     /**
@@ -197,12 +227,12 @@ public class BeanPath {
      */
     public Lino<Object> parse(Object obj) {
 
-        for (Function<Object, Object> function : Lira.of(path)) {
+        for (int i = 0, size = path.size(); i < size; i++) {
 
             if (obj == null) {
                 return Lino.none();
             }
-            obj = function.apply(obj);
+            obj = path.get(i).apply(obj);
 
         }
 
@@ -211,19 +241,13 @@ public class BeanPath {
 
     private void setKeyFunction(String key) {
 
-        path.add(obj -> {
-            if (obj instanceof Map) {
-
-                return ((Map<?, ?>) obj).get(key);
-            }
-            return ReflectUtil.getFieldValue(obj, key).get();
-        });
+        path.add(new KeyFunction(key));
     }
 
     private void setArrFunction(int index) {
         if (filters_stack.isEmpty()) {
 
-            path.add(obj -> Lira.of(IterableItr.of(obj)).get(index).get());
+            path.add(obj -> index(obj, index));
         } else {
             Function<Lino<Object>, Object> pop = filters_stack.pop();
             path.add(obj -> Lira.of(IterableItr.of(obj))
@@ -233,26 +257,115 @@ public class BeanPath {
         }
     }
 
+    /**
+     * the same as {@code Lira.of(IterableItr.of(obj)).get(index).get()}, the null elements are not counted
+     */
+    private static Object index(Object obj, int index) {
+
+        if (obj instanceof List && obj instanceof RandomAccess) {
+            return index((List<?>) obj, index);
+        }
+        if (obj instanceof Object[]) {
+            return index(Arrays.asList((Object[]) obj), index);
+        }
+        if (obj.getClass().isArray()) {
+            // primitive array does not contain null
+            int length = Array.getLength(obj);
+            int i = index < 0 ? length + index : index;
+            return i < 0 || i >= length ? null : Array.get(obj, i);
+        }
+        return Lira.of(IterableItr.of(obj)).get(index).get();
+    }
+
+    private static Object index(List<?> list, int index) {
+
+        if (index >= 0) {
+            for (int i = 0, size = list.size(); i < size; i++) {
+                Object element = list.get(i);
+                if (element != null && index-- == 0) {
+                    return element;
+                }
+            }
+            return null;
+        }
+        for (int i = list.size() - 1; i >= 0; i--) {
+            Object element = list.get(i);
+            if (element != null && ++index == 0) {
+                return element;
+            }
+        }
+        return null;
+    }
+
     /**
      * @param obj the find obj
      * @param key the key of map or the field name of obj
      * @return the map value or field value
      */
     public static Lino<Object> simple(Object obj, String key) {
-        BeanPath beanPath = new BeanPath();
-        beanPath.setKeyFunction(key);
-        return beanPath.parse(obj);
+        if (obj instanceof Map) {
+            return Lino.of(((Map<?, ?>) obj).get(key));
+        }
+        return Lino.of(ReflectUtil.getFieldValue(obj, key).get());
     }
 
     @SafeVarargs
     public static Lino<Object> parse(Object obj, String expression, Function<Lino<Object>, Object>... filters) {
 
+        if (filters.length == 0) {
+            return parse(obj, expression);
+        }
         BeanPath beanPath = new BeanPath(filters);
         beanPath.build(expression);
         return beanPath.parse(obj);
     }
 
 
+    /**
+     * the value of map key or field, the field and it's getter are resolved once for each class
+     */
+    private static final class KeyFunction implements Function<Object, Object> {
+
+        private static final MethodHandle ABSENT =
+                MethodHandles.dropArguments(MethodHandles.constant(Object.class, null), 0, Object.class);
+
+        private final String key;
+        /**
+         * the getters are stored in each class, so a cached expression does not keep the classes and their class
+         * loaders reachable
+         */
+        private final ClassValue<MethodHandle> getters = new ClassValue<MethodHandle>() {
+            @Override
+            protected MethodHandle computeValue(Class<?> type) {
+                return getter(type);
+            }
+        };
+
+        private KeyFunction(String key) {
+            this.key = key;
+        }
+
+        @SuppressWarnings("java:S1181")
+        @Override
+        public Object apply(Object obj) {
+            if (obj instanceof Map) {
+
+                return ((Map<?, ?>) obj).get(key);
+            }
+            MethodHandle getter = getters.get(obj.getClass());
+            try {
+                return (Object) getter.invokeExact(obj);
+            } catch (Throwable throwable) {
+                return null;
+            }
+        }
+
+        private MethodHandle getter(Class<?> cls) {
+            // the field cannot be found or accessed is treated as absent
+            return ReflectUtil.getField(cls, key).unzip(ReflectUtil::getGetter).get(ABSENT);
+        }
+    }
+
     public static class BeginIllegalStateException extends IllegalStateException {
 
         public BeginIllegalStateException() {
@@ -6,18 +6,65 @@ import io.leaderli.litool.core.exception.LiAssertUtil;
 import io.leaderli.litool.core.io.InputStreamCompletableFuture;
 import io.leaderli.litool.core.meta.LiConstant;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
+ * the output of process is read on {@link #EXECUTOR} by default, not the {@link java.util.concurrent.ForkJoinPool},
+ * so the long-running processes do not starve other tasks
+ *
  * @author leaderli
  * @since 2022/9/22 8:46 AM
  */
 public class Shell {
 
+    /**
+     * the system property of the max number of threads of {@link #EXECUTOR} when the jvm does not support the virtual
+     * thread
+     */
+    public static final String POOL_SIZE_PROPERTY = "litool.shell.pool.size";
+    /**
+     * reading the output mostly blocks on io, so the default size is larger than the number of processors
+     */
+    public static final int DEFAULT_POOL_SIZE = Integer.getInteger(POOL_SIZE_PROPERTY,
+            Runtime.getRuntime().availableProcessors() * 4);
+    /**
+     * the default executor to read the output of process, use the virtual thread when the jvm support it,
+     * otherwise use at most {@link #DEFAULT_POOL_SIZE} daemon threads, the idle threads are released after 60 seconds.
+     * when all threads are busy, the output of new process is read after a running one finishes, the blocked process
+     * waits for its output to be read, so use a custom executor by {@link #Shell(File, Charset, Executor)} when many
+     * long-running processes are started at the same time
+     */
+    public static final ExecutorService EXECUTOR = newExecutor();
+    /**
+     * the max number of lines buffered by {@link #lines(String...)}, the process will be blocked when the buffer is
+     * full until the lines are consumed
+     */
+    public static final int LINE_BUFFER_SIZE = 1024;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
     private final File workDir;
     private final Charset charset;
+    private final Executor executor;
 
 
     public Shell(File workDir) {
@@ -25,15 +72,42 @@ public class Shell {
     }
 
     public Shell(File workDir, Charset charset) {
+        this(workDir, charset, EXECUTOR);
+    }
+
+    /**
+     * @param workDir  the work directory of process
+     * @param charset  the charset of process output
+     * @param executor the executor to read the output of process
+     */
+    public Shell(File workDir, Charset charset, Executor executor) {
         LiAssertUtil.assertTrue(workDir == null || workDir.exists() && workDir.isDirectory());
         this.workDir = workDir;
         this.charset = charset;
+        this.executor = executor;
     }
 
     public Shell() {
         this(null, Charset.defaultCharset());
     }
 
+    private static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            AtomicInteger count = new AtomicInteger();
+            int size = Math.max(1, DEFAULT_POOL_SIZE);
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(size, size, 60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), r -> {
+                Thread thread = new Thread(r, "litool-shell-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
     /**
      * @param command the bash script content
      * @return call {@link #command(String...)}  as {@code  command("sh", "-c", command)}
@@ -50,25 +124,205 @@ public class Shell {
      */
     public CatchFuture<String> command(String... commands) {
 
+        try {
+            Process process = start(commands);
+
+            return new InputStreamCompletableFuture(process.getInputStream(), charset, executor);
+
+        } catch (Throwable e) {
+            return new CompletedCatchFuture<>("", e);
+        }
+
+    }
+
+    /**
+     * @param command the bash script content
+     * @param onLine  the consumer of each output line
+     * @return call {@link #command(Consumer, String...)}  as {@code  command(onLine, "sh", "-c", command)}
+     */
+    public CompletableFuture<Integer> bash(String command, Consumer<String> onLine) {
+        return command(onLine, LiConstant.BASH, "-c", command);
+    }
+
+    /**
+     * the output is delivered line by line to onLine on the executor as soon as it arrives, the output is not kept.
+     * the process is blocked while onLine is running
+     *
+     * @param onLine   the consumer of each output line
+     * @param commands the script, the first parameter should be the program
+     * @return a future completed with the exit code of process after all lines are consumed, or completed
+     * exceptionally if the process build error or the output cannot be read
+     */
+    public CompletableFuture<Integer> command(Consumer<String> onLine, String... commands) {
+
+        Process process;
+        try {
+            process = start(commands);
+        } catch (IOException e) {
+            CompletableFuture<Integer> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try (BufferedReader reader = reader(process)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    onLine.accept(line);
+                }
+                return process.waitFor();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process.destroy();
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * @param command the bash script content
+     * @return call {@link #lines(String...)}  as {@code  lines("sh", "-c", command)}
+     */
+    public Lines bashLines(String command) {
+        return lines(LiConstant.BASH, "-c", command);
+    }
+
+    /**
+     * Return the output lines of process, the lines are read on the executor and at most
+     * {@link #LINE_BUFFER_SIZE} lines are buffered. {@link Lines#close()} will destroy the process
+     *
+     * @param commands the script, the first parameter should be the program
+     * @return the output lines
+     * @throws UncheckedIOException if the process build error
+     */
+    public Lines lines(String... commands) {
+
+        try {
+            Process process = start(commands);
+            Lines lines = new Lines(process);
+            executor.execute(() -> lines.read(reader(process)));
+            return lines;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Process start(String... commands) throws IOException {
+
         ProcessBuilder processBuilder = new ProcessBuilder();
         processBuilder.directory(this.workDir);
         processBuilder.redirectErrorStream(true);
         processBuilder.command(commands);
 
+        Process process = processBuilder.start();
 
-        try {
-            Process process = processBuilder.start();
+        try (OutputStream outputStream = process.getOutputStream()) {
+            outputStream.flush();
+        }
+        return process;
+    }
+
+    private BufferedReader reader(Process process) {
+        return new BufferedReader(new InputStreamReader(process.getInputStream(), charset), READ_BUFFER_SIZE);
+    }
+
+    /**
+     * the blocking iterator of the output lines of process, {@link #hasNext()} wait until the next line arrive or
+     * the output end
+     */
+    public static class Lines implements Iterator<String>, AutoCloseable {
+
+        private static final Object END = new Object();
+
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(LINE_BUFFER_SIZE);
+        private final Process process;
+        private volatile boolean closed;
+        private Object next;
+
+        private Lines(Process process) {
+            this.process = process;
+        }
 
-            try (OutputStream outputStream = process.getOutputStream()) {
-                outputStream.flush();
+        private void read(BufferedReader reader) {
+            try (BufferedReader in = reader) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (!put(line)) {
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                if (!closed) {
+                    put(new UncheckedIOException(e));
+                }
             }
+            put(END);
+        }
 
-            return new InputStreamCompletableFuture(process.getInputStream(), charset);
+        private boolean put(Object line) {
+            try {
+                while (!closed) {
+                    if (queue.offer(line, 100, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
 
-        } catch (Throwable e) {
-            return new CompletedCatchFuture<>("", e);
+        /**
+         * @return whether there are more lines, it's false when the iterator is closed or the thread is interrupted
+         * @throws UncheckedIOException if the output cannot be read
+         */
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                if (closed) {
+                    return false;
+                }
+                try {
+                    next = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            if (next instanceof UncheckedIOException) {
+                throw (UncheckedIOException) next;
+            }
+            return next != END;
         }
 
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String line = (String) next;
+            next = null;
+            return line;
+        }
+
+        /**
+         * @return the exit code of process
+         * @throws InterruptedException if the current thread is interrupted while waiting
+         */
+        public int waitFor() throws InterruptedException {
+            return process.waitFor();
+        }
+
+        /**
+         * stop read the output and destroy the process
+         */
+        @Override
+        public void close() {
+            closed = true;
+            queue.clear();
+            process.destroy();
+        }
     }
 
 }
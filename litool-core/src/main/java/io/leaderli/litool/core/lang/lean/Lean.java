@@ -8,9 +8,12 @@ import io.leaderli.litool.core.meta.Lira;
 import io.leaderli.litool.core.type.*;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * @author leaderli
@@ -19,8 +22,16 @@ import java.util.concurrent.ConcurrentHashMap;
 public class Lean {
     public final Lira<LeanFieldKey> reflect_name_handlers;
     public final Map<Class<? extends TypeAdapter<?>>, LiTuple2<TypeAdapter<?>, Type>> reflect_value_handlers =
-            new HashMap<>();
+            new ConcurrentHashMap<>();
     private final Map<LiTypeToken<?>, TypeAdapter<?>> typeTokenCache = new ConcurrentHashMap<>();
+    /**
+     * the same as {@link #typeTokenCache}, but use the type as key, avoid create {@link LiTypeToken} every time
+     */
+    private final Map<Type, TypeAdapter<?>> typeCache = new ConcurrentHashMap<>();
+    /**
+     * the adapters being created by current thread, use to handle the self-referential type
+     */
+    private final ThreadLocal<Map<LiTypeToken<?>, FutureTypeAdapter<?>>> creating = ThreadLocal.withInitial(HashMap::new);
     private final ConstructorConstructor constructorConstructor;
     private final List<TypeAdapterFactory> factories;
 
@@ -75,7 +86,7 @@ public class Lean {
 
         TypeAdapter<T> adapter = getAdapter(target.getClass());
         LiAssertUtil.assertTrue(adapter instanceof ReflectAdapterFactory.ReflectAdapter, "only support copy to pojo bean");
-        ((ReflectAdapterFactory.ReflectAdapter<Object>) adapter).populate(source, target, this);
+        ((ReflectAdapterFactory.ReflectAdapter<?>) adapter).populate(source, target, this);
     }
 
     /**
@@ -83,8 +94,11 @@ public class Lean {
      * @param <T>  the parameter of {@link  LiTypeToken}
      * @return try to get the value cached by {@link  #typeTokenCache}, if not cached
      * foreach {@link #factories} to find the a {@link  TypeAdapter} and cache
-     * LiTypeToken-TypeAdapter to reuse
+     * LiTypeToken-TypeAdapter to reuse. the cache is lock-free, when the same type is created concurrently,
+     * only the first cached adapter is returned. when the type is requested again while it is being created by
+     * the same thread, a delegate of the adapter being created is returned
      */
+    @SuppressWarnings("unchecked")
     public <T> TypeAdapter<T> getAdapter(LiTypeToken<T> type) {
         Objects.requireNonNull(type);
         TypeAdapter<T> cached = getCacheAdapter(type);
@@ -92,19 +106,27 @@ public class Lean {
             return cached;
         }
 
-
-        for (TypeAdapterFactory factory : this.factories) {
-            TypeAdapter<T> candidate = factory.create(this, type);
-            if (candidate != null) {
-                synchronized (typeTokenCache) {
-                    cached = getCacheAdapter(type);
-                    if (cached != null) {
-                        return cached;
+        Map<LiTypeToken<?>, FutureTypeAdapter<?>> ongoing = creating.get();
+        FutureTypeAdapter<T> future = (FutureTypeAdapter<T>) ongoing.get(type);
+        if (future != null) {
+            return future;
+        }
+        future = new FutureTypeAdapter<>();
+        ongoing.put(type, future);
+        try {
+            for (TypeAdapterFactory factory : this.factories) {
+                TypeAdapter<T> candidate = factory.create(this, type);
+                if (candidate != null) {
+                    cached = (TypeAdapter<T>) typeTokenCache.putIfAbsent(type, candidate);
+                    if (cached == null) {
+                        cached = candidate;
                     }
-                    typeTokenCache.put(type, candidate);
-                    return candidate;
+                    future.delegate = cached;
+                    return cached;
                 }
             }
+        } finally {
+            ongoing.remove(type);
         }
 
         throw new IllegalArgumentException("Lean cannot handle " + type);
@@ -142,9 +164,45 @@ public class Lean {
      * @return {@link  #getAdapter(LiTypeToken)}
      * @see #getAdapter(LiTypeToken)
      */
+    @SuppressWarnings("unchecked")
     public <T> TypeAdapter<T> getAdapter(Type type) {
 
-        return getAdapter(LiTypeToken.of(type));
+        TypeAdapter<T> cached = (TypeAdapter<T>) typeCache.get(type);
+        if (cached != null) {
+            return cached;
+        }
+        cached = getAdapter(LiTypeToken.of(type));
+        typeCache.putIfAbsent(type, cached);
+        return cached;
+    }
+
+    /**
+     * create the adapters of the types and the types of their fields, elements ahead of time, so the first
+     * conversion does not pay the reflection cost
+     *
+     * @param types the target types
+     * @see ReflectAdapterFactory.ReflectAdapter#warmUp(Lean)
+     */
+    public void warmUp(Type... types) {
+        Set<Type> visited = new HashSet<>();
+        Deque<Type> pending = new ArrayDeque<>(Arrays.asList(types));
+        while (!pending.isEmpty()) {
+            Type type = pending.pop();
+            if (!visited.add(type)) {
+                continue;
+            }
+            TypeAdapter<?> adapter = getAdapter(type);
+            if (adapter instanceof ReflectAdapterFactory.ReflectAdapter) {
+                pending.addAll(((ReflectAdapterFactory.ReflectAdapter<?>) adapter).warmUp(this));
+            }
+            if (type instanceof ParameterizedType) {
+                Collections.addAll(pending, ((ParameterizedType) type).getActualTypeArguments());
+            } else if (type instanceof GenericArrayType) {
+                pending.add(((GenericArrayType) type).getGenericComponentType());
+            } else if (type instanceof Class && ((Class<?>) type).isArray()) {
+                pending.add(((Class<?>) type).getComponentType());
+            }
+        }
     }
 
     /**
@@ -159,6 +217,63 @@ public class Lean {
         return (T) getAdapter(targetType).read(source, this);
     }
 
+    /**
+     * Return a lazy lira over the elements of source, each element is converted to elementType by
+     * {@link #getAdapter(LiTypeToken)} only when it is consumed, so the whole result is never built eagerly.
+     * the {@link Iterable} source is iterated directly without copy, other source is the same as
+     * {@link Lira#iterableItr(Object)}
+     *
+     * @param source      the source elements
+     * @param elementType the target element typeToken
+     * @param <T>         the parameter of {@link  LiTypeToken}
+     * @return a lira of converted elements
+     */
+    public <T> Lira<T> stream(Object source, LiTypeToken<T> elementType) {
+        TypeAdapter<T> adapter = getAdapter(elementType);
+        return elements(source).map(e -> adapter.read(e, this));
+    }
+
+    /**
+     * @param source      the source elements
+     * @param elementType the target element class
+     * @param <T>         the type of element
+     * @return a lira of converted elements
+     * @see #stream(Object, LiTypeToken)
+     */
+    public <T> Lira<T> stream(Object source, Class<T> elementType) {
+        return stream(source, LiTypeToken.of(elementType));
+    }
+
+    /**
+     * the same as {@link #stream(Object, LiTypeToken)}, but the elements are converted on the executor. the
+     * {@link RandomAccess} list is split into chunks by index directly, other source is collected first.
+     * the encounter order is kept
+     *
+     * @param source      the source elements
+     * @param elementType the target element typeToken
+     * @param executor    the executor to run the conversion
+     * @param parallelism the number of threads expected to be used
+     * @param <T>         the parameter of {@link  LiTypeToken}
+     * @return a lira of converted elements
+     * @see Lira#parallel(Executor, int, boolean)
+     */
+    public <T> Lira<T> parallelStream(Object source, LiTypeToken<T> elementType, Executor executor, int parallelism) {
+        TypeAdapter<T> adapter = getAdapter(elementType);
+        return elements(source).parallel(executor, parallelism).map(e -> adapter.read(e, this));
+    }
+
+    /**
+     * @param source the source elements
+     * @return the lira of source elements, the {@link Iterable} is not copied
+     */
+    @SuppressWarnings("unchecked")
+    public static Lira<Object> elements(Object source) {
+        if (source instanceof Iterable) {
+            return Lira.of((Iterable<Object>) source);
+        }
+        return Lira.iterableItr(source);
+    }
+
     /**
      * {@code   constructorConstructor.get(typeToken)}
      *
@@ -172,4 +287,19 @@ public class Lean {
     }
 
 
+    /**
+     * the delegate of the adapter being created, it is used by the self-referential type
+     */
+    private static final class FutureTypeAdapter<T> implements TypeAdapter<T> {
+
+        private volatile TypeAdapter<T> delegate;
+
+        @Override
+        public T read(Object source, Lean lean) {
+            if (delegate == null) {
+                throw new IllegalStateException("the adapter is used before it is created");
+            }
+            return delegate.read(source, lean);
+        }
+    }
 }
@@ -3,7 +3,6 @@ package io.leaderli.litool.core.lang.lean.adapters;
 import io.leaderli.litool.core.lang.lean.Lean;
 import io.leaderli.litool.core.lang.lean.TypeAdapter;
 import io.leaderli.litool.core.lang.lean.TypeAdapterFactory;
-import io.leaderli.litool.core.meta.Lira;
 import io.leaderli.litool.core.type.LiTypeToken;
 import io.leaderli.litool.core.type.TypeUtil;
 
@@ -41,7 +40,7 @@ public class ArrayTypeAdapterFactory implements TypeAdapterFactory {
         @Override
         public E[] read(Object source, Lean lean) {
 
-            return Lira.iterableItr(source).map(e -> elementTypeAdapter.read(e, lean)).toNullableArray(componentType);
+            return Lean.elements(source).map(e -> elementTypeAdapter.read(e, lean)).toNullableArray(componentType);
         }
     }
 
@@ -46,7 +46,7 @@ public class CollectionTypeAdapterFactory implements TypeAdapterFactory {
 
             Collection<E> collection = constructor.get();
 
-            Lira.iterableItr(source)
+            Lean.elements(source)
                     .map(e -> elementTypeAdapter.read(e, lean))
                     .forNullableEach(collection::add);
 
@@ -1,14 +1,17 @@
 package io.leaderli.litool.core.lang.lean.adapters;
 
-import io.leaderli.litool.core.lang.BeanPath;
 import io.leaderli.litool.core.lang.lean.*;
-import io.leaderli.litool.core.meta.Either;
 import io.leaderli.litool.core.meta.LiTuple2;
 import io.leaderli.litool.core.text.StrSubstitution;
 import io.leaderli.litool.core.type.*;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -32,6 +35,10 @@ public class ReflectAdapterFactory implements TypeAdapterFactory {
     public static class ReflectAdapter<T> implements TypeAdapter<T> {
 
         private final LiTypeToken<T> typeToken;
+        /**
+         * the populate plans of the target classes, created at the first populate of each class
+         */
+        private final Map<Class<?>, PopulatePlan> plans = new ConcurrentHashMap<>();
 
         public ReflectAdapter(Lean lean, LiTypeToken<T> typeToken) {
             this.typeToken = typeToken;
@@ -52,37 +59,37 @@ public class ReflectAdapterFactory implements TypeAdapterFactory {
 
         public void populate(Object source, Object target, Lean lean) {
 
-            for (Field field : ReflectUtil.getFields(target.getClass()).filter(f -> !ModifierUtil.isStatic(f))) {
-                Type targetType = TypeUtil.resolve(typeToken.getType(), field.getGenericType());
-                performField(source, targetType, target, field, lean);
-            }
+            plan(target.getClass(), lean).populate(source, target, lean);
         }
 
+        /**
+         * create the populate plan ahead of time
+         *
+         * @param lean the lean
+         * @return the resolved types of the fields
+         * @see Lean#warmUp(Type...)
+         */
+        public List<Type> warmUp(Lean lean) {
+            List<Type> types = new ArrayList<>();
+            for (FieldPlan field : plan(typeToken.getRawType(), lean).fields) {
+                types.add(field.targetType);
+            }
+            return types;
+        }
 
-        private void performField(Object source, Type targetType, Object target, Field field, Lean lean) {
-
-            String key = lean.reflect_name_handlers.map(fu -> fu.apply(field)).first().get();
-
-
-            TypeAdapter<T> typeAdapter = ReflectUtil.getAnnotation(field, LeanFieldAdapter.class)
-                    .map(lf -> getLeanFieldTypeAdapter(targetType, lf, lean))
-                    .get(() -> lean.getAdapter(targetType));
-
-            BeanPath.simple(source, key)
-                    .map(fv -> typeAdapter.read(fv, lean))
-                    .eitherSupplier(() -> {
-                        if (typeAdapter instanceof NullableTypeAdapters) {
-                            return ((NullableTypeAdapters<T>) typeAdapter).read(lean, source, targetType);
-                        }
-                        return null;
-                    })
-                    .map(Either::fold)
-                    .ifPresent(v -> ReflectUtil.setFieldValue(target, field, v));
+        private PopulatePlan plan(Class<?> cls, Lean lean) {
+            PopulatePlan populatePlan = plans.get(cls);
+            if (populatePlan != null) {
+                return populatePlan;
+            }
+            // not use computeIfAbsent, creating the plan may get the adapters of the fields
+            populatePlan = new PopulatePlan(typeToken, cls, lean);
+            PopulatePlan old = plans.putIfAbsent(cls, populatePlan);
+            return old == null ? populatePlan : old;
         }
 
 
-        @SuppressWarnings("unchecked")
-        private TypeAdapter<T> getLeanFieldTypeAdapter(Type targetType, LeanFieldAdapter annotation, Lean lean) {
+        private static TypeAdapter<?> getLeanFieldTypeAdapter(Type targetType, LeanFieldAdapter annotation, Lean lean) {
 
             Class<? extends TypeAdapter<?>> cls = annotation.value();
 
@@ -95,29 +102,115 @@ public class ReflectAdapterFactory implements TypeAdapterFactory {
                 String msg = StrSubstitution.format("the {adapter} is not " + "satisfied the " + "field type {type}", cls, targetType);
                 throw new IllegalArgumentException(msg);
             }
-            return (TypeAdapter<T>) find._1;
+            return find._1;
         }
 
         @SuppressWarnings("unchecked")
-        private LiTuple2<TypeAdapter<?>, Type> computeIfAbsentHandler(Class<? extends TypeAdapter<?>> cls, Lean lean) {
+        private static LiTuple2<TypeAdapter<?>, Type> computeIfAbsentHandler(Class<? extends TypeAdapter<?>> cls, Lean lean) {
+
+            return lean.reflect_value_handlers.computeIfAbsent(cls, c -> {
+                Type actualTypeArgument = TypeUtil.resolve2Parameterized(c, TypeAdapter.class).getActualTypeArguments()[0];
+                return ReflectUtil.newInstance(c)
+                        .tuple2(actualTypeArgument)
+                        .assertNotNone(() -> StrSubstitution.format("the {adapter} is cannot " + "create instance}", c))
+                        .cast(LiTuple2.class)
+                        .get();
+            });
+        }
 
-            LiTuple2<TypeAdapter<?>, Type> find = lean.reflect_value_handlers.get(cls);
-            if (find != null) {
-                return find;
+
+        /**
+         * the resolved target type, key, adapter and setter of all non-static fields of the target class, and
+         * the getters of the keys for each source class
+         */
+        private static final class PopulatePlan {
+
+            private final FieldPlan[] fields;
+            private final Map<Class<?>, MethodHandle[]> sourceGetters = new ConcurrentHashMap<>();
+
+            private PopulatePlan(LiTypeToken<?> typeToken, Class<?> cls, Lean lean) {
+                // not use Lira.map, the exception of the illegal LeanFieldAdapter should be thrown
+                List<FieldPlan> plans = new ArrayList<>();
+                for (Field field : ReflectUtil.getFields(cls).filter(f -> !ModifierUtil.isStatic(f))) {
+                    plans.add(new FieldPlan(typeToken, field, lean));
+                }
+                this.fields = plans.toArray(new FieldPlan[0]);
             }
-            Type actualTypeArgument = TypeUtil.resolve2Parameterized(cls, TypeAdapter.class).getActualTypeArguments()[0];
-            find = ReflectUtil.newInstance(cls)
-                    .tuple2(actualTypeArgument)
-                    .assertNotNone(() -> StrSubstitution.format("the {adapter} is cannot " + "create instance}", cls))
-                    .cast(LiTuple2.class)
-                    .get();
-            synchronized (lean.reflect_value_handlers) {
-                lean.reflect_value_handlers.put(cls, find);
+
+            private void populate(Object source, Object target, Lean lean) {
+
+                if (source instanceof Map) {
+                    Map<?, ?> map = (Map<?, ?>) source;
+                    for (FieldPlan field : fields) {
+                        field.populate(source, map.get(field.key), target, lean);
+                    }
+                    return;
+                }
+                MethodHandle[] getters = source == null ? null : sourceGetters.computeIfAbsent(source.getClass(),
+                        this::sourceGetters);
+                for (int i = 0; i < fields.length; i++) {
+                    Object value = getters == null || getters[i] == null ? null : get(getters[i], source);
+                    fields[i].populate(source, value, target, lean);
+                }
+            }
+
+            private MethodHandle[] sourceGetters(Class<?> sourceClass) {
+                MethodHandle[] getters = new MethodHandle[fields.length];
+                for (int i = 0; i < fields.length; i++) {
+                    getters[i] = ReflectUtil.getField(sourceClass, fields[i].key).unzip(ReflectUtil::getGetter).get();
+                }
+                return getters;
+            }
+
+            @SuppressWarnings("java:S1181")
+            private Object get(MethodHandle getter, Object source) {
+                try {
+                    return (Object) getter.invokeExact(source);
+                } catch (Throwable throwable) {
+                    return null;
+                }
             }
-            return find;
         }
 
+        private static final class FieldPlan {
+
+            private final Field field;
+            private final Type targetType;
+            private final String key;
+            private final TypeAdapter<?> typeAdapter;
+            private final MethodHandle setter;
+
+            private FieldPlan(LiTypeToken<?> typeToken, Field field, Lean lean) {
+                this.field = field;
+                this.targetType = TypeUtil.resolve(typeToken.getType(), field.getGenericType());
+                this.key = lean.reflect_name_handlers.map(fu -> fu.apply(field)).first().get();
+                this.typeAdapter = ReflectUtil.getAnnotation(field, LeanFieldAdapter.class)
+                        .map(lf -> getLeanFieldTypeAdapter(targetType, lf, lean))
+                        .get(() -> lean.getAdapter(targetType));
+                this.setter = ReflectUtil.getSetter(field).get();
+            }
 
+            @SuppressWarnings("java:S1181")
+            private void populate(Object source, Object sourceValue, Object target, Lean lean) {
+
+                Object value = sourceValue == null ? null : typeAdapter.read(sourceValue, lean);
+                if (value == null && typeAdapter instanceof NullableTypeAdapters) {
+                    value = ((NullableTypeAdapters<?>) typeAdapter).read(lean, source, targetType);
+                }
+                if (value == null) {
+                    return;
+                }
+                if (setter == null) {
+                    ReflectUtil.setFieldValue(target, field, value);
+                    return;
+                }
+                try {
+                    setter.invokeExact(target, (Object) value);
+                } catch (Throwable ignore) {
+                    // the same as ReflectUtil.setFieldValue, the value which cannot be set is ignored
+                }
+            }
+        }
     }
 
 
@@ -10,6 +10,8 @@ import io.leaderli.litool.core.type.LiTypeToken;
 import io.leaderli.litool.core.util.BooleanUtil;
 
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -521,6 +523,43 @@ public interface Lira<T> extends LiValue, PublisherRa<T>, Iterable<T> {
      */
     Lira<T> onError(Exceptionable onError);
 
+    /**
+     * use {@link ForkJoinPool#commonPool()} and keep the encounter order
+     *
+     * @return a new lira
+     * @see #parallel(Executor, int, boolean)
+     */
+    default Lira<T> parallel() {
+        return parallel(ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * keep the encounter order
+     *
+     * @param executor    the executor to run the split elements
+     * @param parallelism the number of threads expected to be used
+     * @return a new lira
+     * @see #parallel(Executor, int, boolean)
+     */
+    default Lira<T> parallel(Executor executor, int parallelism) {
+        return parallel(executor, parallelism, true);
+    }
+
+    /**
+     * Return a lira that split the elements into several parts, the following {@link #map(Function)},
+     * {@link #filter(Function)} and {@link #throwable_map(ThrowableFunction)} are performed on the executor,
+     * other actions after them are still performed sequentially on the caller thread.
+     * <p>
+     * the null element and error are handled the same as the sequential lira, the error is delivered to
+     * {@link #onError(Exceptionable)} on the caller thread. the action should be thread-safe
+     *
+     * @param executor    the executor to run the split elements
+     * @param parallelism the number of threads expected to be used
+     * @param ordered     keep the encounter order, otherwise the parts are delivered in the order they complete
+     * @return a new lira
+     */
+    Lira<T> parallel(Executor executor, int parallelism, boolean ordered);
+
     /**
      * a terminal action, will call {@link  #present()} to judge the element at here
      * whether present. if present just return this, or return a {@link  #of(Object[])}
@@ -634,17 +673,31 @@ public interface Lira<T> extends LiValue, PublisherRa<T>, Iterable<T> {
     Lira<T> sleep(int countdown, long milliseconds);
 
     /**
-     * use {@link  Objects#equals(Object, Object)} as {@link  EqualComparator}
+     * use {@link  Object#equals(Object)} and {@link Object#hashCode()} to distinct elements, keep the encounter order
      *
      * @return a new lira
+     * @see #distinctBy(Function)
      * @see #distinct(EqualComparator)
-     * @see Objects#equals(Object, Object)
-     * @see EqualComparator
      */
     default Lira<T> distinct() {
-        return distinct(Objects::equals);
+        return distinctBy(Function.identity());
     }
 
+    /**
+     * Return this that consisting of the elements whose key are distinct, the first element of each key is kept
+     * in encounter order. the key should implement {@link Object#equals(Object)} and {@link Object#hashCode()},
+     * it's a hash-based alternative to {@link #distinct(EqualComparator)} whose cost is quadratic
+     * <p>
+     * the null element is kept once and is not applied to keyMapper
+     * <p>
+     * it's a middle terminal action
+     *
+     * @param keyMapper the function to extract the key of non-null element
+     * @return a new lira
+     * @see #terminal(Function)
+     */
+    Lira<T> distinctBy(Function<? super T, ?> keyMapper);
+
     /**
      * Return this that consisting of the distinct elements according to {@code EqualComparator}
      * <p>
@@ -33,6 +33,12 @@ class FilterRa<T> extends RaWithPrevPublisher<T> {
     }
 
 
+    @Override
+    Fusion<T> fuse() {
+        Fusion<T> fusion = fuse(prevPublisher);
+        return fusion == null ? null : fusion.filter(filter);
+    }
+
     private final class FilterSubscriberSubscription extends IntermediateSubscriberSubscription<T, T> {
 
         public FilterSubscriberSubscription(SubscriberRa<? super T> actualSubscriber) {
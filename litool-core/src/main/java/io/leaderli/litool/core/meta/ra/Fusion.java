@@ -0,0 +1,210 @@
+package io.leaderli.litool.core.meta.ra;
+
+import io.leaderli.litool.core.util.BooleanUtil;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 将 {@link IterableRa} 之后相邻的 map、filter、skip、limit 合并为对数据源的一次循环，不再为每个节点创建
+ * {@link IntermediateSubscriberSubscription}，也不再逐个元素经过订阅链传递。
+ * <p>
+ * 合并后的执行与订阅链的行为保持一致：
+ * <ul>
+ *     <li>null 元素不会经过 map，仅会经过 {@link NullableFunction} 的 filter，会被 skip、limit 计数</li>
+ *     <li>处理元素时抛出异常，该元素视为 null 从第一个节点重新处理一次，{@link LiraRuntimeException} 会中断执行</li>
+ *     <li>limit 的数量用尽后，下一个到达 limit 的元素会终止执行</li>
+ * </ul>
+ * 每次终端操作都会创建新的实例，skip、limit 的计数不会在多次执行间共享。实例不是线程安全的
+ *
+ * @param <T> 合并后输出的元素类型
+ * @author leaderli
+ * @see Ra#fuse()
+ * @since 2022/10/17
+ */
+final class Fusion<T> {
+
+    private static final int MAP = 0;
+    private static final int MAP_IGNORE_NULL = 1;
+    private static final int FILTER = 2;
+    private static final int SKIP = 3;
+    private static final int LIMIT = 4;
+    private static final int INITIAL_CAPACITY = 4;
+    /**
+     * 元素被过滤
+     */
+    static final Object SKIPPED = new Object();
+    /**
+     * limit 的数量已用尽，不再处理后续元素
+     */
+    static final Object STOP = new Object();
+
+    private final Iterable<?> source;
+    private int[] kinds = new int[INITIAL_CAPACITY];
+    private Function<Object, ?>[] functions = newFunctions(INITIAL_CAPACITY);
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private int size;
+    /**
+     * 最近一次 {@link #apply(Object)} 时元素到达的节点，元素经过所有节点时为 size
+     */
+    private int reached;
+
+    Fusion(Iterable<?> source) {
+        this.source = source;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, ?>[] newFunctions(int length) {
+        return new Function[length];
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> Fusion<R> add(int kind, Function<?, ?> function, int count) {
+        if (size == kinds.length) {
+            int length = size * 2;
+            kinds = Arrays.copyOf(kinds, length);
+            functions = Arrays.copyOf(functions, length);
+            counts = Arrays.copyOf(counts, length);
+        }
+        kinds[size] = kind;
+        functions[size] = (Function<Object, ?>) function;
+        counts[size] = count;
+        size++;
+        return (Fusion<R>) this;
+    }
+
+    <R> Fusion<R> map(Function<? super T, ? extends R> mapper) {
+        return add(MAP, mapper, 0);
+    }
+
+    <R> Fusion<R> mapIgnoreNull(Function<? super T, ? extends R> mapper) {
+        return add(MAP_IGNORE_NULL, mapper, 0);
+    }
+
+    Fusion<T> filter(Function<? super T, ?> filter) {
+        return add(FILTER, filter, 0);
+    }
+
+    Fusion<T> skip(int skip) {
+        return add(SKIP, null, skip);
+    }
+
+    Fusion<T> limit(int limit) {
+        return add(LIMIT, null, limit);
+    }
+
+    /**
+     * 对所有非 null 的输出元素执行 consumer
+     *
+     * @param consumer 消费者
+     */
+    @SuppressWarnings("unchecked")
+    void forEach(Consumer<? super T> consumer) {
+        Consumer<Object> action = (Consumer<Object>) consumer;
+        if (source instanceof List && source instanceof RandomAccess) {
+            List<?> list = (List<?>) source;
+            for (int i = 0, length = list.size(); i < length; i++) {
+                if (!accept(list.get(i), action)) {
+                    return;
+                }
+            }
+            return;
+        }
+        Iterator<?> iterator = source.iterator();
+        while (iterator.hasNext()) {
+            if (!accept(iterator.next(), action)) {
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("java:S1181")
+    private boolean accept(Object element, Consumer<Object> consumer) {
+        try {
+            return push(element, consumer);
+        } catch (LiraRuntimeException e) {
+            throw new LiraRuntimeException(e);
+        } catch (Throwable throwable) {
+            return push(null, consumer);
+        }
+    }
+
+    private static boolean test(Object result) {
+        return result instanceof Boolean ? (Boolean) result : BooleanUtil.parse(result);
+    }
+
+    /**
+     * @return 是否继续处理下一个元素
+     */
+    private boolean push(Object value, Consumer<Object> consumer) {
+        Object result = apply(value);
+        if (result == STOP) {
+            return false;
+        }
+        int passed = reached;
+        if (result != null && result != SKIPPED) {
+            consumer.accept(result);
+        }
+        // 与 LimitRa 一致，后续节点及 consumer 正常返回后才计数，抛出异常的元素仅在视为 null 重新处理时计数一次
+        for (int i = 0; i < passed; i++) {
+            if (kinds[i] == LIMIT) {
+                counts[i]--;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 使元素依次经过所有节点，不处理异常，limit 仅校验数量，由 {@link #push(Object, Consumer)} 在处理完成后计数
+     *
+     * @param value 元素
+     * @return 输出的元素，元素被过滤时返回 {@link #SKIPPED}，limit 的数量用尽时返回 {@link #STOP}
+     */
+    Object apply(Object value) {
+        for (int i = 0; i < size; i++) {
+            reached = i;
+            switch (kinds[i]) {
+                case MAP:
+                    if (value != null) {
+                        value = functions[i].apply(value);
+                    }
+                    break;
+                case MAP_IGNORE_NULL:
+                    if (value != null) {
+                        value = functions[i].apply(value);
+                        if (value == null) {
+                            return SKIPPED;
+                        }
+                    }
+                    break;
+                case FILTER:
+                    Function<Object, ?> filter = functions[i];
+                    if (value == null) {
+                        if (!(filter instanceof NullableFunction) || !test(filter.apply(null))) {
+                            return SKIPPED;
+                        }
+                    } else if (!test(filter.apply(value))) {
+                        return SKIPPED;
+                    }
+                    break;
+                case SKIP:
+                    if (counts[i] > 0) {
+                        counts[i]--;
+                        return SKIPPED;
+                    }
+                    break;
+                default:
+                    if (counts[i] < 1) {
+                        return STOP;
+                    }
+                    break;
+            }
+        }
+        reached = size;
+        return value;
+    }
+}
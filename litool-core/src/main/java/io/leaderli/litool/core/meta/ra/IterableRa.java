@@ -27,6 +27,19 @@ public class IterableRa<T> extends Ra<T> {
         actualSubscriber.onSubscribe(newGenerator(actualSubscriber));
     }
 
+    @Override
+    Fusion<T> fuse() {
+        // 无限的 generator 需要由订阅链检查是否有 limit
+        return infinite ? null : new Fusion<>(iterable);
+    }
+
+    /**
+     * @return 数据源
+     */
+    Iterable<? extends T> iterable() {
+        return iterable;
+    }
+
     public ItrGenerator newGenerator(SubscriberRa<? super T> actualSubscriber) {
         return new ItrGenerator(actualSubscriber, iterable.iterator());
     }
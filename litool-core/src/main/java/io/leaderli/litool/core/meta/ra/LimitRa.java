@@ -18,6 +18,12 @@ class LimitRa<T> extends RaWithPrevPublisher<T> {
 
     }
 
+    @Override
+    Fusion<T> fuse() {
+        Fusion<T> fusion = fuse(prevPublisher);
+        return fusion == null ? null : fusion.limit(limit);
+    }
+
     private static final class LimitSubscriberSubscription<T> extends IntermediateSubscriberSubscription<T, T> {
 
         private int limit;
@@ -25,6 +25,12 @@ public class MapRa<T, R> extends Ra<R> {
 
     }
 
+    @Override
+    Fusion<R> fuse() {
+        Fusion<T> fusion = fuse(prevPublisher);
+        return fusion == null ? null : fusion.map(mapper);
+    }
+
     private class MapSubscriberSubscription extends IntermediateSubscriberSubscription<T, R> {
 
 
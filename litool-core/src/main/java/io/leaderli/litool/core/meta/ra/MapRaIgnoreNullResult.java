@@ -26,6 +26,12 @@ public class MapRaIgnoreNullResult<T, R> extends Ra<R> {
 
     }
 
+    @Override
+    Fusion<R> fuse() {
+        Fusion<T> fusion = fuse(prevPublisher);
+        return fusion == null ? null : fusion.mapIgnoreNull(mapper);
+    }
+
     private class MapSubscriberSubscription extends IntermediateSubscriberSubscription<T, R> {
 
 
@@ -0,0 +1,322 @@
+package io.leaderli.litool.core.meta.ra;
+
+import io.leaderli.litool.core.exception.ThrowableInterfaceException;
+import io.leaderli.litool.core.function.ThrowableFunction;
+import io.leaderli.litool.core.meta.Lira;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 将数据源拆分为多段，在多个线程上执行紧随其后的 map、filter、throwable_map，其余操作仍然按顺序执行。
+ * <p>
+ * 数据源为 {@link RandomAccess} 的集合时直接按照下标拆分，其他数据源会先按顺序收集为集合。
+ * 与订阅链的行为保持一致：
+ * <ul>
+ *     <li>null 元素不会经过 map，仅会经过 {@link NullableFunction} 的 filter</li>
+ *     <li>处理元素时抛出异常，该元素视为 null 重新处理一次，之后在调用线程中通知 {@link Lira#onError(Exceptionable)}</li>
+ *     <li>{@link LiraRuntimeException} 会中断执行</li>
+ * </ul>
+ * 有序时按照数据源的顺序输出，无序时按照各段完成的先后输出，段内保持数据源的顺序
+ *
+ * @param <T> 输出的元素类型
+ * @author leaderli
+ * @see Lira#parallel(Executor, int, boolean)
+ * @since 2022/10/17
+ */
+class ParallelRa<T> extends Ra<T> {
+
+    /**
+     * 每个线程分配的段数，减少各段耗时不均导致的等待
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final PublisherRa<?> source;
+    private final Executor executor;
+    private final int parallelism;
+    private final boolean ordered;
+    private final Supplier<Fusion<T>> stages;
+
+    ParallelRa(PublisherRa<T> source, Executor executor, int parallelism, boolean ordered) {
+        Objects.requireNonNull(executor);
+        this.source = source;
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+        this.ordered = ordered;
+        // 仅使用合并后的节点处理单个元素，不需要数据源
+        this.stages = () -> new Fusion<>(null);
+    }
+
+    private <P> ParallelRa(ParallelRa<P> prev, Function<Fusion<P>, Fusion<T>> stage) {
+        this.source = prev.source;
+        this.executor = prev.executor;
+        this.parallelism = prev.parallelism;
+        this.ordered = prev.ordered;
+        this.stages = () -> stage.apply(prev.stages.get());
+    }
+
+    @Override
+    public <R> Lira<R> map(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return new ParallelRa<>(this, fusion -> fusion.map(mapper));
+    }
+
+    @Override
+    public Lira<T> filter(Function<? super T, ?> filter) {
+        Objects.requireNonNull(filter);
+        return new ParallelRa<>(this, fusion -> fusion.filter(filter));
+    }
+
+    @Override
+    public <R> Lira<R> throwable_map(ThrowableFunction<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return map(t -> {
+            try {
+                return mapper.apply(t);
+            } catch (Throwable e) {
+                throw new ThrowableInterfaceException(e);
+            }
+        });
+    }
+
+    @Override
+    public <R> Lira<R> throwable_map(ThrowableFunction<? super T, ? extends R> mapper, Consumer<Throwable> whenThrow) {
+        return throwable_map(mapper);
+    }
+
+    @Override
+    public void subscribe(SubscriberRa<? super T> actualSubscriber) {
+        actualSubscriber.onSubscribe(new ParallelSubscription(actualSubscriber));
+    }
+
+    /**
+     * @return 数据源的所有元素，上游的异常以 {@link Failure} 的形式保留在原位置
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object> elements() {
+        if (source instanceof IterableRa) {
+            Iterable<?> iterable = ((IterableRa<?>) source).iterable();
+            if (iterable instanceof List && iterable instanceof RandomAccess) {
+                return (List<Object>) iterable;
+            }
+        }
+        CollectSubscriber collector = new CollectSubscriber();
+        source.subscribe(collector);
+        return collector.elements;
+    }
+
+    /**
+     * 处理元素时抛出的异常，按照元素的位置输出
+     */
+    private static final class Failure {
+        private final Throwable throwable;
+
+        private Failure(Throwable throwable) {
+            this.throwable = throwable;
+        }
+    }
+
+    private static final class CollectSubscriber implements SubscriberRa<Object> {
+
+        private final List<Object> elements = new ArrayList<>();
+
+        @Override
+        public void onSubscribe(SubscriptionRa prevSubscription) {
+            prevSubscription.request();
+        }
+
+        @Override
+        public void next(Object t) {
+            elements.add(t);
+        }
+
+        @Override
+        public void next_null() {
+            elements.add(null);
+        }
+
+        @Override
+        public void onError(Throwable t, CancelSubscription cancel) {
+            elements.add(new Failure(t));
+        }
+    }
+
+    private final class ParallelSubscription implements SubscriptionRa {
+
+        private final SubscriberRa<? super T> actualSubscriber;
+        private Iterator<Object> outputs;
+        private boolean completed;
+        private volatile boolean cancelled;
+
+        private ParallelSubscription(SubscriberRa<? super T> actualSubscriber) {
+            this.actualSubscriber = actualSubscriber;
+        }
+
+        @Override
+        public void request(int state) {
+            if (outputs == null) {
+                outputs = start();
+            }
+            if (LiraBit.isTerminal(state)) {
+                while (!completed) {
+                    performRequest();
+                }
+            } else {
+                performRequest();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            completed = true;
+            cancelled = true;
+            actualSubscriber.onCancel();
+        }
+
+        @SuppressWarnings({"unchecked", "java:S1181"})
+        private void performRequest() {
+            if (completed) {
+                actualSubscriber.onComplete();
+                return;
+            }
+            if (!outputs.hasNext()) {
+                completed = true;
+                actualSubscriber.onComplete();
+                return;
+            }
+            Object next = outputs.next();
+            if (next instanceof Failure) {
+                actualSubscriber.onError(((Failure) next).throwable, this);
+                return;
+            }
+            try {
+                SubscriberUtil.next(actualSubscriber, (T) next);
+            } catch (Throwable throwable) {
+                if (throwable instanceof LiraRuntimeException) {
+                    throw new LiraRuntimeException((LiraRuntimeException) throwable);
+                }
+                actualSubscriber.next_null();
+                actualSubscriber.onError(throwable, this);
+            }
+        }
+
+        private Iterator<Object> start() {
+            List<Object> elements = elements();
+            int size = elements.size();
+            int chunk = Math.max(1, (size + parallelism * CHUNKS_PER_THREAD - 1) / (parallelism * CHUNKS_PER_THREAD));
+
+            CompletionService<List<Object>> completionService = new ExecutorCompletionService<>(executor);
+            List<Future<List<Object>>> futures = new ArrayList<>();
+            for (int from = 0; from < size; from += chunk) {
+                int start = from;
+                int end = Math.min(size, from + chunk);
+                // fusion 记录了处理状态，不是线程安全的，每一段使用独立的实例
+                futures.add(completionService.submit(() -> process(stages.get(), elements, start, end)));
+            }
+            return new MergeIterator(completionService, futures);
+        }
+
+        @SuppressWarnings("java:S1181")
+        private List<Object> process(Fusion<T> fusion, List<Object> elements, int from, int to) {
+            List<Object> outputs = new ArrayList<>(to - from);
+            for (int i = from; i < to && !cancelled; i++) {
+                Object element = elements.get(i);
+                if (element instanceof Failure) {
+                    outputs.add(element);
+                    continue;
+                }
+                try {
+                    add(outputs, fusion.apply(element));
+                } catch (LiraRuntimeException e) {
+                    throw e;
+                } catch (Throwable throwable) {
+                    add(outputs, fusion.apply(null));
+                    outputs.add(new Failure(throwable));
+                }
+            }
+            return outputs;
+        }
+
+        private void add(List<Object> outputs, Object output) {
+            if (output != Fusion.SKIPPED) {
+                outputs.add(output);
+            }
+        }
+
+        /**
+         * 依次输出各段的处理结果，有序时按照提交的顺序等待，无序时按照完成的顺序等待
+         */
+        private final class MergeIterator implements Iterator<Object> {
+
+            private final CompletionService<List<Object>> completionService;
+            private final List<Future<List<Object>>> futures;
+            private int merged;
+            private Iterator<Object> current = Collections.emptyIterator();
+
+            private MergeIterator(CompletionService<List<Object>> completionService,
+                                  List<Future<List<Object>>> futures) {
+                this.completionService = completionService;
+                this.futures = futures;
+            }
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext()) {
+                    if (merged == futures.size()) {
+                        return false;
+                    }
+                    current = take().iterator();
+                    merged++;
+                }
+                return true;
+            }
+
+            @Override
+            public Object next() {
+                if (hasNext()) {
+                    return current.next();
+                }
+                throw new NoSuchElementException();
+            }
+
+            private List<Object> take() {
+                try {
+                    Future<List<Object>> future = ordered ? futures.get(merged) : completionService.take();
+                    return future.get();
+                } catch (InterruptedException e) {
+                    cancelAll();
+                    Thread.currentThread().interrupt();
+                    throw new LiraRuntimeException(e);
+                } catch (ExecutionException e) {
+                    cancelAll();
+                    Throwable cause = e.getCause();
+                    if (cause instanceof LiraRuntimeException) {
+                        throw new LiraRuntimeException((LiraRuntimeException) cause);
+                    }
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw new LiraRuntimeException(cause);
+                }
+            }
+
+            private void cancelAll() {
+                cancelled = true;
+                futures.forEach(future -> future.cancel(false));
+            }
+        }
+    }
+}
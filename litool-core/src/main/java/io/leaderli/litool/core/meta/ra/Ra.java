@@ -8,6 +8,7 @@ import io.leaderli.litool.core.meta.*;
 import io.leaderli.litool.core.type.ClassUtil;
 
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -79,7 +80,7 @@ public abstract class Ra<T> implements Lira<T> {
         if (index > -1) {
             LiBox<T> box = LiBox.none();
             // remove null element, then limit n element and skip n-1 element
-            filter_null().limit(index + 1).skip(index).subscribe(new ConsumerSubscriber<>(box::value));
+            ((Ra<T>) filter_null().limit(index + 1).skip(index)).consume(box::value);
             return box.lino();
         } else {
             // to avoid avoid generator duplicate request problem, convert to a limit iterator
@@ -104,7 +105,7 @@ public abstract class Ra<T> implements Lira<T> {
 
     @Override
     public void forEach(Consumer<? super T> consumer) {
-        subscribe(new ConsumerSubscriber<>(consumer));
+        consume(consumer);
     }
 
     @Override
@@ -204,6 +205,11 @@ public abstract class Ra<T> implements Lira<T> {
         return new OnErrorRa<>(this, onError);
     }
 
+    @Override
+    public Lira<T> parallel(Executor executor, int parallelism, boolean ordered) {
+        return new ParallelRa<>(this, executor, parallelism, ordered);
+    }
+
     @SafeVarargs
     @Override
     public final Lira<T> or(T... alternate) {
@@ -300,6 +306,32 @@ public abstract class Ra<T> implements Lira<T> {
         });
     }
 
+    @Override
+    public Lira<T> distinctBy(Function<? super T, ?> keyMapper) {
+
+        return terminal(list -> {
+
+            List<T> distinct = new ArrayList<>();
+            Set<Object> keys = new HashSet<>();
+            boolean containsNull = false;
+            for (T t : list) {
+
+                if (t == null) {
+                    if (!containsNull) {
+                        containsNull = true;
+                        distinct.add(null);
+                    }
+                    continue;
+                }
+
+                if (keys.add(keyMapper.apply(t))) {
+                    distinct.add(t);
+                }
+            }
+            return distinct;
+        });
+    }
+
     private void addIfAbsent(EqualComparator<? super T> comparator, List<T> distinct, T t) {
         for (T di : distinct) {
 
@@ -355,8 +387,7 @@ public abstract class Ra<T> implements Lira<T> {
     public final List<T> get() {
 
         List<T> result = new ArrayList<>();
-        ConsumerSubscriber<T> delegate = new ConsumerSubscriber<>(result::add);
-        subscribe(delegate);
+        consume(result::add);
         return result;
     }
 
@@ -400,6 +431,39 @@ public abstract class Ra<T> implements Lira<T> {
         return result;
     }
 
+    /**
+     * 合并当前节点及其之前的节点，无法合并时返回 null
+     *
+     * @return 合并后的执行
+     * @see Fusion
+     */
+    Fusion<T> fuse() {
+        return null;
+    }
+
+    /**
+     * 对所有非 null 的元素执行 consumer，可以合并时不再经过订阅链
+     *
+     * @param consumer 消费者
+     */
+    final void consume(Consumer<? super T> consumer) {
+        Fusion<T> fusion = fuse();
+        if (fusion != null) {
+            fusion.forEach(consumer);
+        } else {
+            subscribe(new ConsumerSubscriber<>(consumer));
+        }
+    }
+
+    /**
+     * @param publisher 上一个节点
+     * @param <T>       上一个节点的元素类型
+     * @return 上一个节点合并后的执行，无法合并时返回 null
+     */
+    static <T> Fusion<T> fuse(PublisherRa<T> publisher) {
+        return publisher instanceof Ra ? ((Ra<T>) publisher).fuse() : null;
+    }
+
     @Override
     public int hashCode() {
         return get().hashCode();
@@ -20,6 +20,12 @@ class SkipRa<T> extends RaWithPrevPublisher<T> {
 
     }
 
+    @Override
+    Fusion<T> fuse() {
+        Fusion<T> fusion = fuse(prevPublisher);
+        return fusion == null ? null : fusion.skip(skip);
+    }
+
     private static class SkipSubscriberSubscription<T> extends IntermediateSubscriberSubscription<T, T> {
 
         private int skip;
@@ -1,10 +1,10 @@
 package io.leaderli.litool.core.text;
 
+import io.leaderli.litool.core.collection.LiLRUCache;
 import io.leaderli.litool.core.lang.BeanPath;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.io.IOException;
+import java.util.*;
 import java.util.function.Function;
 
 /**
@@ -32,6 +32,12 @@ public class StrSubstitution {
     private static final int VARIABLE_BEGIN = 2;
     private static final int VARIABLE_LITERAL = 3;
 
+    /**
+     * the max number of compiled templates kept by {@link #compile(String, char, char)}
+     */
+    public static final int CACHE_CAPACITY = 256;
+    private static final LiLRUCache<TemplateKey, Template> CACHE = new LiLRUCache<>(CACHE_CAPACITY);
+
     /**
      * format text by map. the placeholder in format text are regard as a map key.
      * and use {@link BeanPath#parse(Object, String)} to get the replace value. if replace value
@@ -72,7 +78,7 @@ public class StrSubstitution {
      */
     public static String format(String format, Object... args) {
 
-        return format(format, new VariablesFunction(args));
+        return template(format, VARIABLE_BEING_CHAR, VARIABLE_END_CHAR).format(args);
     }
 
     /**
@@ -127,17 +133,62 @@ public class StrSubstitution {
 
 
     public static String parse(String format, char variableBegin, char variableEnd, Function<String, Object> replaceFunction) {
+        return template(format, variableBegin, variableEnd).format(replaceFunction);
+    }
+
+    /**
+     * @param format a format string
+     * @return the compiled template use {@link #VARIABLE_BEING_CHAR} and {@link #VARIABLE_END_CHAR}
+     * @see #compile(String, char, char)
+     */
+    public static Template compile(String format) {
+        return compile(format, VARIABLE_BEING_CHAR, VARIABLE_END_CHAR);
+    }
+
+    /**
+     * Return the compiled template, the format string is scanned once, the literals and placeholders are kept,
+     * it's immutable and thread-safe. the compiled templates are cached, at most {@link #CACHE_CAPACITY}
+     * templates are kept, the static format methods reuse the cached template but do not add to the cache
+     *
+     * @param format        a format string
+     * @param variableBegin the placeholder begin mark
+     * @param variableEnd   the placeholder end mark
+     * @return the compiled template
+     * @see #parse(String, char, char, Function)
+     */
+    public static Template compile(String format, char variableBegin, char variableEnd) {
+        if (format == null) {
+            return Template.EMPTY;
+        }
+        return CACHE.computeIfAbsent(new TemplateKey(format, variableBegin, variableEnd),
+                key -> build(format, variableBegin, variableEnd));
+    }
+
+    /**
+     * the static format methods use the template compiled by {@link #compile(String, char, char)} if it's cached, or
+     * build a template without caching, so the one-off format strings do not evict the compiled templates. the format
+     * string used repeatedly should be compiled once and reused
+     */
+    private static Template template(String format, char variableBegin, char variableEnd) {
         if (format == null) {
-            return "";
+            return Template.EMPTY;
         }
+        Template template = CACHE.get(new TemplateKey(format, variableBegin, variableEnd));
+        return template != null ? template : build(format, variableBegin, variableEnd);
+    }
+
+    private static Template build(String format, char variableBegin, char variableEnd) {
 
         int state = START;
 
-        StringBuilder result = new StringBuilder();
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
         StringBuilder temp = new StringBuilder();
         //  state machine
-        for (char c : format.toCharArray()) {
+        for (int i = 0, length = format.length(); i < length; i++) {
 
+            char c = format.charAt(i);
             switch (state) {
                 case START:
 
@@ -152,8 +203,8 @@ public class StrSubstitution {
                 case LITERAL:
                     if (c == variableBegin) {
                         state = VARIABLE_BEGIN;
-                        result.append(temp);
-                        temp = new StringBuilder();
+                        literal.append(temp);
+                        temp.setLength(0);
 
                     } else {
                         temp.append(c);
@@ -161,10 +212,10 @@ public class StrSubstitution {
                     break;
                 case VARIABLE_BEGIN:
                     if (c == variableBegin) {
-                        result.append(variableBegin);
+                        literal.append(variableBegin);
                         state = START;
                     } else if (c == variableEnd) {
-                        result.append(variableBegin).append(variableEnd);
+                        literal.append(variableBegin).append(variableEnd);
                         state = START;
                     } else {
                         temp.append(c);
@@ -175,10 +226,10 @@ public class StrSubstitution {
                 case VARIABLE_LITERAL:
 
                     if (c == variableEnd) {
-                        String key = temp.toString();
-                        Object value = replaceFunction.apply(key);
-                        result.append(value == null ? variableBegin + key + variableEnd : value);
-                        temp = new StringBuilder();
+                        literals.add(literal.toString());
+                        names.add(temp.toString());
+                        literal.setLength(0);
+                        temp.setLength(0);
                         state = START;
                     } else {
                         temp.append(c);
@@ -193,9 +244,10 @@ public class StrSubstitution {
 
         }
         if (state == VARIABLE_BEGIN || state == VARIABLE_LITERAL) {
-            result.append(variableBegin);
+            literal.append(variableBegin);
         }
-        return result.append(temp).toString();
+        literals.add(literal.append(temp).toString());
+        return new Template(literals, names, variableBegin, variableEnd);
     }
 
     /**
@@ -284,7 +336,7 @@ public class StrSubstitution {
     private static class VariablesFunction implements Function<String, Object> {
 
         private final Object[] placeholderValues;
-        private final List<String> placeholderNames = new ArrayList<>();
+        private final Map<String, Integer> placeholderNames = new HashMap<>();
         /**
          * the current placeholder variable index, self-increment when there are new placeholder
          */
@@ -297,17 +349,179 @@ public class StrSubstitution {
         @Override
         public String apply(String s) {
 
-            int find = placeholderNames.indexOf(s);
-            if (find > -1) {
+            Integer find = placeholderNames.get(s);
+            if (find != null) {
                 return placeholderValues[find] + "";
             }
             if (this.index < placeholderValues.length) {
-                placeholderNames.add(s);
+                placeholderNames.put(s, this.index);
                 return placeholderValues[this.index++] + "";
             }
             return null;
         }
     }
 
+    /**
+     * a compiled format string, consist of literals and placeholders, the literal before the i-th placeholder is
+     * {@code literals[i]}, the last literal is after all placeholders
+     *
+     * @see #compile(String, char, char)
+     */
+    public static final class Template {
+
+        private static final Template EMPTY = new Template(Collections.singletonList(""), Collections.emptyList(),
+                VARIABLE_BEING_CHAR, VARIABLE_END_CHAR);
+
+        private final String[] literals;
+        private final String[] names;
+        /**
+         * the origin text of placeholder, it's used when the replace value is null
+         */
+        private final String[] placeholders;
+        /**
+         * the index of args used by {@link #format(Object...)}, the same name placeholder reuse previous index
+         */
+        private final int[] argIndexes;
+        private final List<String> variables;
+        private final int literalLength;
+
+        private Template(List<String> literals, List<String> names, char variableBegin, char variableEnd) {
+            this.literals = literals.toArray(new String[0]);
+            this.names = names.toArray(new String[0]);
+            this.placeholders = new String[this.names.length];
+            this.argIndexes = new int[this.names.length];
+
+            Map<String, Integer> indexes = new LinkedHashMap<>();
+            for (int i = 0; i < this.names.length; i++) {
+                placeholders[i] = variableBegin + this.names[i] + variableEnd;
+                Integer index = indexes.get(this.names[i]);
+                if (index == null) {
+                    index = indexes.size();
+                    indexes.put(this.names[i], index);
+                }
+                argIndexes[i] = index;
+            }
+            this.variables = Collections.unmodifiableList(new ArrayList<>(indexes.keySet()));
+            int length = 0;
+            for (String literal : this.literals) {
+                length += literal.length();
+            }
+            this.literalLength = length;
+        }
+
+        /**
+         * @return the distinct placeholder names in the order they appear
+         */
+        public List<String> variables() {
+            return variables;
+        }
+
+        /**
+         * @param replaceFunction a function that accept the placeholder variable and return a value to replace it
+         * @return a formatted string
+         * @see StrSubstitution#format(String, Function)
+         */
+        public String format(Function<String, Object> replaceFunction) {
+            if (names.length == 0) {
+                return literals[0];
+            }
+            return render(new StringBuilder(literalLength + 16 * names.length), replaceFunction).toString();
+        }
+
+        /**
+         * @param args Arguments referenced by the format
+         * @return a formatted string
+         * @see StrSubstitution#format(String, Object...)
+         */
+        public String format(Object... args) {
+            if (names.length == 0) {
+                return literals[0];
+            }
+            StringBuilder out = new StringBuilder(literalLength + 16 * names.length).append(literals[0]);
+            for (int i = 0; i < names.length; i++) {
+                int index = argIndexes[i];
+                if (index < args.length) {
+                    out.append(args[index]);
+                } else {
+                    out.append(placeholders[i]);
+                }
+                out.append(literals[i + 1]);
+            }
+            return out.toString();
+        }
+
+        /**
+         * append the formatted string to out
+         *
+         * @param out             the string builder
+         * @param replaceFunction a function that accept the placeholder variable and return a value to replace it
+         * @return the out
+         */
+        public StringBuilder render(StringBuilder out, Function<String, Object> replaceFunction) {
+            out.append(literals[0]);
+            for (int i = 0; i < names.length; i++) {
+                Object value = replaceFunction.apply(names[i]);
+                if (value == null) {
+                    out.append(placeholders[i]);
+                } else {
+                    out.append(value);
+                }
+                out.append(literals[i + 1]);
+            }
+            return out;
+        }
+
+        /**
+         * append the formatted string to out
+         *
+         * @param out             the appendable
+         * @param replaceFunction a function that accept the placeholder variable and return a value to replace it
+         * @param <A>             the type of appendable
+         * @return the out
+         * @throws IOException if an I/O error occurs
+         */
+        public <A extends Appendable> A render(A out, Function<String, Object> replaceFunction) throws IOException {
+            out.append(literals[0]);
+            for (int i = 0; i < names.length; i++) {
+                Object value = replaceFunction.apply(names[i]);
+                out.append(value == null ? placeholders[i] : String.valueOf(value));
+                out.append(literals[i + 1]);
+            }
+            return out;
+        }
+    }
+
+    /**
+     * the key of compiled template cache
+     */
+    private static final class TemplateKey {
 
+        private final String format;
+        private final char variableBegin;
+        private final char variableEnd;
+
+        private TemplateKey(String format, char variableBegin, char variableEnd) {
+            this.format = format;
+            this.variableBegin = variableBegin;
+            this.variableEnd = variableEnd;
+        }
+
+        @Override
+        public int hashCode() {
+            return (format.hashCode() * 31 + variableBegin) * 31 + variableEnd;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TemplateKey)) {
+                return false;
+            }
+            TemplateKey other = (TemplateKey) obj;
+            return format.equals(other.format) && variableBegin == other.variableBegin
+                    && variableEnd == other.variableEnd;
+        }
+    }
 }
@@ -0,0 +1,108 @@
+package io.leaderli.litool.core.type;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * the reflection metadata of a class, it is computed once for each class and cached by {@link ClassValue}, so the
+ * metadata is released together with the class when its classloader is unloaded.
+ * <p>
+ * the order of fields, methods and constructors is the same as the union of the public members and the declared
+ * members. the members are shared by all callers and are not made accessible here, the use sites of
+ * {@link ReflectUtil} make them accessible on demand by {@link ReflectUtil#setAccessible(AccessibleObject)}
+ *
+ * @author leaderli
+ * @see ReflectUtil
+ * @since 2022/10/17
+ */
+final class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    /**
+     * union of {@link Class#getFields()} and {@link Class#getDeclaredFields()}, exclude synthetic field
+     */
+    final List<Field> fields;
+    /**
+     * union of {@link Class#getMethods()} and {@link Class#getDeclaredMethods()}, exclude synthetic method
+     */
+    final List<Method> methods;
+    /**
+     * {@link Class#getMethods()}, exclude synthetic method
+     */
+    final List<Method> publicMethods;
+    /**
+     * union of {@link Class#getConstructors()} and {@link Class#getDeclaredConstructors()}
+     */
+    final List<Constructor<?>> constructors;
+
+    private final Map<String, Field> fieldsByName;
+    private final Map<String, Field> declaredFieldsByName;
+    private final Map<String, Method> methodsByName;
+    private final Map<String, Method> declaredMethodsByName;
+
+    private ClassMetadata(Class<?> cls) {
+        this.fields = union(cls.getFields(), cls.getDeclaredFields(), true);
+        this.methods = union(cls.getMethods(), cls.getDeclaredMethods(), true);
+        this.publicMethods = union(cls.getMethods(), new Method[0], true);
+        this.constructors = union(cls.getConstructors(), cls.getDeclaredConstructors(), false);
+        this.fieldsByName = byName(cls, fields, false);
+        this.declaredFieldsByName = byName(cls, fields, true);
+        this.methodsByName = byName(cls, methods, false);
+        this.declaredMethodsByName = byName(cls, methods, true);
+    }
+
+    static ClassMetadata of(Class<?> cls) {
+        return METADATA.get(cls);
+    }
+
+    private static <T extends Member> List<T> union(T[] a, T[] b, boolean excludeSynthetic) {
+        Set<T> union = new LinkedHashSet<>(Arrays.asList(a));
+        Collections.addAll(union, b);
+        List<T> members = new ArrayList<>(union.size());
+        for (T member : union) {
+            if (excludeSynthetic && member.isSynthetic()) {
+                continue;
+            }
+            members.add(member);
+        }
+        return Collections.unmodifiableList(members);
+    }
+
+    private static <T extends Member> Map<String, T> byName(Class<?> cls, List<T> members, boolean onlyCurrentClass) {
+        Map<String, T> byName = new HashMap<>();
+        for (T member : members) {
+            if (!onlyCurrentClass || member.getDeclaringClass().equals(cls)) {
+                byName.putIfAbsent(member.getName(), member);
+            }
+        }
+        return byName;
+    }
+
+    /**
+     * @param name             the name of field
+     * @param onlyCurrentClass whether only find the field declared by the class
+     * @return the first field of {@link #fields} with the name, or null
+     */
+    Field field(String name, boolean onlyCurrentClass) {
+        return (onlyCurrentClass ? declaredFieldsByName : fieldsByName).get(name);
+    }
+
+    /**
+     * @param name             the name of method
+     * @param onlyCurrentClass whether only find the method declared by the class
+     * @return the first method of {@link #methods} with the name, or null
+     */
+    Method method(String name, boolean onlyCurrentClass) {
+        return (onlyCurrentClass ? declaredMethodsByName : methodsByName).get(name);
+    }
+}
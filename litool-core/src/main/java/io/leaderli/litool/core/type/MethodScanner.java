@@ -1,6 +1,5 @@
 package io.leaderli.litool.core.type;
 
-import io.leaderli.litool.core.collection.CollectionUtils;
 import io.leaderli.litool.core.meta.Lira;
 
 import java.lang.reflect.Method;
@@ -62,17 +61,15 @@ public class MethodScanner {
     public Lira<Method> scan() {
         if (cls != null) {
 
-            Lira<Method> methods = Lira.of(cls.getMethods());
+            ClassMetadata metadata = ClassMetadata.of(cls);
+            Lira<Method> methods = Lira.of(scan_private ? metadata.methods : metadata.publicMethods);
 
-            if (scan_private) {
-                methods = CollectionUtils.union(methods, Lira.of(cls.getDeclaredMethods()));
-            }
             if (not_scan_object) {
                 methods = methods.filter(MethodUtil::notObjectMethod);
             }
 
 
-            return methods.filter(m -> !m.isSynthetic()).filter(filter);
+            return methods.filter(filter);
 
         }
         return Lira.none();
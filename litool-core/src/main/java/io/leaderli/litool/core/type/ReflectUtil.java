@@ -1,6 +1,5 @@
 package io.leaderli.litool.core.type;
 
-import io.leaderli.litool.core.collection.CollectionUtils;
 import io.leaderli.litool.core.exception.AssertException;
 import io.leaderli.litool.core.exception.LiAssertUtil;
 import io.leaderli.litool.core.internal.ReflectionAccessor;
@@ -12,6 +11,9 @@ import io.leaderli.litool.core.proxy.DynamicDelegation;
 import io.leaderli.litool.core.text.StrSubstitution;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.function.Function;
@@ -23,6 +25,8 @@ import java.util.function.Function;
 public class ReflectUtil {
 
     private static final ReflectionAccessor REFLECTION_ACCESSOR = ReflectionAccessor.getInstance();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
 
     /**
      * onlyCurrentClass = false
@@ -47,10 +51,10 @@ public class ReflectUtil {
     public static Lino<Field> getField(Class<?> cls, String name, boolean onlyCurrentClass) {
 
 
-        return getFields(cls)
-                .filter(f -> f.getName().equals(name))
-                .filter(f -> !onlyCurrentClass || f.getDeclaringClass().equals(cls))
-                .first();
+        if (cls == null) {
+            return Lino.none();
+        }
+        return Lino.of(ClassMetadata.of(cls).field(name, onlyCurrentClass));
 
     }
 
@@ -70,7 +74,7 @@ public class ReflectUtil {
             return Lira.none();
         }
 
-        return CollectionUtils.union(Lira.of(cls.getFields()), Lira.of(cls.getDeclaredFields())).filter(f -> !f.isSynthetic());
+        return Lira.of(ClassMetadata.of(cls).fields);
     }
 
 
@@ -124,8 +128,57 @@ public class ReflectUtil {
         return Lino.throwable_of(() -> field.get(obj));
     }
 
+    /**
+     * the static field getter ignore the argument
+     *
+     * @param field the field
+     * @return the getter of field with type {@code (Object)Object}, return {@link Lino#none()} if the field cannot be
+     * accessed
+     */
+    public static Lino<MethodHandle> getGetter(Field field) {
+
+        if (field == null) {
+            return Lino.none();
+        }
+        setAccessible(field);
+        try {
+            MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+            if (ModifierUtil.isStatic(field)) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            return Lino.of(getter.asType(GETTER_TYPE));
+        } catch (IllegalAccessException e) {
+            return Lino.none();
+        }
+    }
+
+    /**
+     * the static field setter ignore the first argument
+     *
+     * @param field the field
+     * @return the setter of field with type {@code (Object,Object)void}, return {@link Lino#none()} if the field
+     * cannot be accessed, eg: the final field in java 8
+     */
+    public static Lino<MethodHandle> getSetter(Field field) {
+
+        if (field == null) {
+            return Lino.none();
+        }
+        setAccessible(field);
+        try {
+            MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+            if (ModifierUtil.isStatic(field)) {
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            }
+            return Lino.of(setter.asType(SETTER_TYPE));
+        } catch (IllegalAccessException e) {
+            return Lino.none();
+        }
+    }
+
+    @SuppressWarnings("deprecation")
     public static void setAccessible(AccessibleObject obj) {
-        if (obj != null) {
+        if (obj != null && !obj.isAccessible()) {
             REFLECTION_ACCESSOR.makeAccessible(obj);
         }
     }
@@ -286,8 +339,8 @@ public class ReflectUtil {
     public static <T> Lira<Constructor<T>> getConstructors(Class<T> cls) {
 
         Objects.requireNonNull(cls);
-        Object union = CollectionUtils.union(cls.getConstructors(), cls.getDeclaredConstructors());
-        return (Lira<Constructor<T>>) union;
+        Object constructors = Lira.of(ClassMetadata.of(cls).constructors);
+        return (Lira<Constructor<T>>) constructors;
 
     }
 
@@ -462,10 +515,10 @@ public class ReflectUtil {
      */
     public static Lino<Method> getMethod(Class<?> cls, String name, boolean onlyCurrentClass) {
 
-        return getMethods(cls)
-                .filter(m -> m.getName().equals(name))
-                .filter(m -> !onlyCurrentClass || m.getDeclaringClass().equals(cls))
-                .first();
+        if (cls == null) {
+            return Lino.none();
+        }
+        return Lino.of(ClassMetadata.of(cls).method(name, onlyCurrentClass));
     }
 
     /**
@@ -480,7 +533,7 @@ public class ReflectUtil {
         if (cls == null) {
             return Lira.none();
         }
-        return CollectionUtils.union(cls.getMethods(), cls.getDeclaredMethods()).filter(m -> !m.isSynthetic());
+        return Lira.of(ClassMetadata.of(cls).methods);
     }
 
     /**
@@ -1,6 +1,7 @@
 package io.leaderli.litool.core.type;
 
 
+import io.leaderli.litool.core.collection.LiLRUCache;
 import io.leaderli.litool.core.exception.LiAssertUtil;
 import io.leaderli.litool.core.internal.GenericArrayTypeImpl;
 import io.leaderli.litool.core.internal.ParameterizedTypeImpl;
@@ -31,6 +32,22 @@ public class TypeUtil {
     @SuppressWarnings("rawtypes")
     public static final TypeVariable[] EMPTY_TYPE_VARIABLE_ARRAY = new TypeVariable[0];
 
+    /**
+     * the max number of results kept by {@link #resolve(Type, Type)}, {@link #resolve2Parameterized(Type, Class)}
+     * and the interned types for each anchor class, see {@link #anchor(Type, Type)}
+     */
+    public static final int CACHE_CAPACITY = 1024;
+    /**
+     * the caches are stored in the anchor class, so they are released with the class loader of it, and do not keep
+     * other class loaders reachable
+     */
+    private static final ClassValue<Caches> CACHES = new ClassValue<Caches>() {
+        @Override
+        protected Caches computeValue(Class<?> type) {
+            return new Caches();
+        }
+    };
+
     /**
      * the type is unknown
      * <pre>
@@ -137,6 +154,10 @@ public class TypeUtil {
      * {@link  ParameterizedType} with defined typed actualTypeArguments
      * <p>
      * expand the context typeVariable and fill to the toResolve
+     * <p>
+     * the result is cached by context and toResolve in a lock-free {@link LiLRUCache} stored in the anchor class, the
+     * equal results share the same instance, see {@link #intern(Type)}. the class without typeParameter is returned
+     * directly without cache
      *
      * @param context   the context
      * @param toResolve the toResolve toResolve that has generic typeParameter
@@ -145,6 +166,19 @@ public class TypeUtil {
     public static Type resolve(Type context, Type toResolve) {
 
         Objects.requireNonNull(toResolve);
+        if (toResolve instanceof Class && ((Class<?>) toResolve).getTypeParameters().length == 0) {
+            return toResolve;
+        }
+        Class<?> anchor = anchor(context, toResolve);
+        if (anchor == null) {
+            return intern(doResolve(context, toResolve));
+        }
+        return CACHES.get(anchor).resolved.computeIfAbsent(new ResolveKey(context, toResolve),
+                key -> intern(doResolve(context, toResolve)));
+    }
+
+    private static Type doResolve(Type context, Type toResolve) {
+
         Class<?> rawType = erase(toResolve);
 
         Map<TypeVariable<?>, Type> visitedTypeVariables = new HashMap<>();
@@ -188,8 +222,128 @@ public class TypeUtil {
      * @return the LiParameterizedType with toResolve class with context class typeParameters
      */
     public static <T> ParameterizedTypeImpl resolve2Parameterized(Type context, Class<T> toResolve) {
-        Type resolve = resolve(context, toResolve);
-        return ParameterizedTypeImpl.make(resolve);
+        Class<?> anchor = anchor(context, toResolve);
+        if (anchor == null) {
+            return (ParameterizedTypeImpl) intern(ParameterizedTypeImpl.make(resolve(context, toResolve)));
+        }
+        return CACHES.get(anchor).resolvedParameterized.computeIfAbsent(new ResolveKey(context, toResolve),
+                key -> (ParameterizedTypeImpl) intern(ParameterizedTypeImpl.make(resolve(context, toResolve))));
+    }
+
+    /**
+     * Return the canonical instance of the type, the equal types share the same instance, so they can be compared
+     * by {@code ==} at first. {@link Class} is always canonical
+     *
+     * @param type the type
+     * @return the canonical instance
+     */
+    public static Type intern(Type type) {
+        if (type == null || type instanceof Class) {
+            return type;
+        }
+        Class<?> anchor = anchor(type, null);
+        if (anchor == null) {
+            return type;
+        }
+        return CACHES.get(anchor).interned.computeIfAbsent(type, t -> t);
+    }
+
+    /**
+     * Return the class whose class loader can load all the classes used by the types, such as the raw type, the
+     * type arguments and the declaring class of the type variables.
+     *
+     * @param type  the type, may be null
+     * @param other the other type, may be null
+     * @return the anchor class, or null if the classes are loaded by unrelated class loaders
+     */
+    private static Class<?> anchor(Type type, Type other) {
+        Class<?>[] anchor = new Class<?>[1];
+        if (visitAnchor(type, anchor) && visitAnchor(other, anchor)) {
+            return anchor[0];
+        }
+        return null;
+    }
+
+    private static boolean visitAnchor(Type type, Class<?>[] anchor) {
+        if (type == null) {
+            return true;
+        }
+        if (type instanceof Class) {
+            Class<?> cls = (Class<?>) type;
+            while (cls.isArray()) {
+                cls = cls.getComponentType();
+            }
+            Class<?> current = anchor[0];
+            if (current == null || isAncestor(cls.getClassLoader(), current.getClassLoader())) {
+                if (current == null) {
+                    anchor[0] = cls;
+                }
+                return true;
+            }
+            if (isAncestor(current.getClassLoader(), cls.getClassLoader())) {
+                anchor[0] = cls;
+                return true;
+            }
+            return false;
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            if (!visitAnchor(parameterizedType.getRawType(), anchor)
+                    || !visitAnchor(parameterizedType.getOwnerType(), anchor)) {
+                return false;
+            }
+            for (Type argument : parameterizedType.getActualTypeArguments()) {
+                if (!visitAnchor(argument, anchor)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (type instanceof GenericArrayType) {
+            return visitAnchor(((GenericArrayType) type).getGenericComponentType(), anchor);
+        }
+        if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            for (Type bound : wildcardType.getUpperBounds()) {
+                if (!visitAnchor(bound, anchor)) {
+                    return false;
+                }
+            }
+            for (Type bound : wildcardType.getLowerBounds()) {
+                if (!visitAnchor(bound, anchor)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (type instanceof TypeVariable) {
+            // the bounds may refer to the type variable itself, use the declaring class instead
+            GenericDeclaration declaration = ((TypeVariable<?>) type).getGenericDeclaration();
+            if (declaration instanceof Class) {
+                return visitAnchor((Class<?>) declaration, anchor);
+            }
+            if (declaration instanceof Member) {
+                return visitAnchor(((Member) declaration).getDeclaringClass(), anchor);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param ancestor the class loader, null is the bootstrap class loader
+     * @param loader   the class loader, null is the bootstrap class loader
+     * @return whether ancestor is the same as or a parent of loader
+     */
+    private static boolean isAncestor(ClassLoader ancestor, ClassLoader loader) {
+        if (ancestor == null) {
+            return true;
+        }
+        for (ClassLoader current = loader; current != null; current = current.getParent()) {
+            if (current == ancestor) {
+                return true;
+            }
+        }
+        return false;
     }
 
 
@@ -414,4 +568,45 @@ public class TypeUtil {
             return false;
         }
     }
+
+    /**
+     * the key of resolved type cache
+     */
+    private static final class Caches {
+
+        private final LiLRUCache<ResolveKey, Type> resolved = new LiLRUCache<>(CACHE_CAPACITY);
+        private final LiLRUCache<ResolveKey, ParameterizedTypeImpl> resolvedParameterized =
+                new LiLRUCache<>(CACHE_CAPACITY);
+        private final LiLRUCache<Type, Type> interned = new LiLRUCache<>(CACHE_CAPACITY);
+    }
+
+    private static final class ResolveKey {
+
+        private final Type context;
+        private final Type toResolve;
+        private final int hashCode;
+
+        private ResolveKey(Type context, Type toResolve) {
+            this.context = context;
+            this.toResolve = toResolve;
+            this.hashCode = 31 * Objects.hashCode(context) + toResolve.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ResolveKey)) {
+                return false;
+            }
+            ResolveKey other = (ResolveKey) obj;
+            return Objects.equals(context, other.context) && toResolve.equals(other.toResolve);
+        }
+    }
 }
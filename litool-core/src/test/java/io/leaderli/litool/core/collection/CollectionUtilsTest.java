@@ -78,6 +78,7 @@ class CollectionUtilsTest {
         Assertions.assertEquals(0, CollectionUtils.intersection((Object[]) null, null).size());
         Assertions.assertEquals(0, CollectionUtils.intersection(Collections.singletonList(1), null).size());
         Assertions.assertEquals(0, CollectionUtils.intersection(null, Collections.singletonList(1)).size());
+        Assertions.assertEquals(Arrays.asList(5, 3), CollectionUtils.intersection(Arrays.asList(5, 1, 3, 5), Arrays.asList(3, 4, 5)).get());
     }
 
     @Test
@@ -93,6 +94,7 @@ class CollectionUtilsTest {
         Assertions.assertEquals(3, CollectionUtils.union(null, new Integer[]{3, 4, 5}).size());
         Assertions.assertEquals(2, CollectionUtils.union(null, Arrays.asList(1, 2)).size());
         Assertions.assertEquals(0, CollectionUtils.union((Iterable<Object>) null, null).size());
+        Assertions.assertEquals(Arrays.asList(3, 1, 2, 5), CollectionUtils.union(Arrays.asList(3, 1, 3), Arrays.asList(2, 1, 5)).get());
     }
 
 
@@ -108,6 +110,7 @@ class CollectionUtilsTest {
         Assertions.assertEquals(4, CollectionUtils.xor(a, b).size());
         Assertions.assertEquals(3, CollectionUtils.xor(a, null).size());
         Assertions.assertEquals(0, CollectionUtils.xor(null, null).size());
+        Assertions.assertEquals(Arrays.asList(2, 1, 5, 4), CollectionUtils.xor(Arrays.asList(3, 2, 1), Arrays.asList(5, 3, 4)).get());
 
 
     }
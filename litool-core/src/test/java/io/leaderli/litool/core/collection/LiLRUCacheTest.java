@@ -0,0 +1,71 @@
+package io.leaderli.litool.core.collection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class LiLRUCacheTest {
+
+
+    @Test
+    void computeIfAbsent() {
+        LiLRUCache<Integer, String> cache = new LiLRUCache<>(2);
+        Assertions.assertEquals("1", cache.computeIfAbsent(1, String::valueOf));
+        Assertions.assertEquals("1", cache.computeIfAbsent(1, k -> "other"));
+        Assertions.assertNull(cache.computeIfAbsent(3, k -> null));
+        Assertions.assertEquals(1, cache.size());
+
+        cache.computeIfAbsent(2, String::valueOf);
+        // 1 is recently used, 2 is the eldest
+        Assertions.assertEquals("1", cache.get(1));
+        cache.computeIfAbsent(3, String::valueOf);
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertNull(cache.get(2));
+        Assertions.assertEquals("1", cache.get(1));
+        Assertions.assertEquals("3", cache.get(3));
+
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LiLRUCache<>(0));
+    }
+
+    @Test
+    void evict() {
+        LiLRUCache<Integer, String> cache = new LiLRUCache<>(32);
+        for (int i = 0; i < 32; i++) {
+            cache.computeIfAbsent(i, String::valueOf);
+        }
+        Assertions.assertEquals("0", cache.get(0));
+        cache.computeIfAbsent(32, String::valueOf);
+        // the eldest entries are removed in batch
+        Assertions.assertEquals(30, cache.size());
+        Assertions.assertEquals("0", cache.get(0));
+        Assertions.assertNull(cache.get(1));
+        Assertions.assertNull(cache.get(2));
+        Assertions.assertEquals("32", cache.get(32));
+    }
+
+    @Test
+    void concurrent() throws InterruptedException {
+        LiLRUCache<Integer, String> cache = new LiLRUCache<>(64);
+        AtomicInteger mismatched = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    int key = i % 100;
+                    if (!String.valueOf(key).equals(cache.computeIfAbsent(key, String::valueOf))) {
+                        mismatched.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertEquals(0, mismatched.get());
+        Assertions.assertTrue(cache.size() <= 64, () -> String.valueOf(cache.size()));
+    }
+}
@@ -4,10 +4,20 @@ import io.leaderli.litool.core.meta.LiBox;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * @author leaderli
  * @since 2022/8/28
  */
+@SuppressWarnings("rawtypes")
 class LiEventBusTest {
 
 
@@ -89,6 +99,76 @@ class LiEventBusTest {
         ((LiEventBusBehavior<String>) eventBus).unRegisterListener(listener);
     }
 
+    @Test
+    void hierarchy() {
+
+        LiEventBus eventBus = new LiEventBus();
+        List<String> received = new ArrayList<>();
+        eventBus.registerListener(new ILiEventListener<LiEventObject>() {
+            @Override
+            public void listen(LiEventObject event) {
+                received.add("object");
+            }
+
+            @Override
+            public Class<LiEventObject> componentType() {
+                return LiEventObject.class;
+            }
+        });
+        eventBus.registerListener(new ILiEventListener<CharSequence>() {
+            @Override
+            public void listen(CharSequence event) {
+                received.add("chars");
+            }
+
+            @Override
+            public Class<CharSequence> componentType() {
+                return CharSequence.class;
+            }
+        });
+        TempListener listener = new TempListener(false);
+        eventBus.registerListener(listener);
+
+        eventBus.push(new TestLiEventObject("123"));
+        Assertions.assertEquals(Collections.singletonList("object"), received);
+        Assertions.assertEquals(1, listener.count);
+
+        eventBus.push("123");
+        Assertions.assertEquals(Arrays.asList("object", "chars"), received);
+
+        eventBus.unRegisterListener(listener);
+        eventBus.push(new TestLiEventObject("123"));
+        Assertions.assertEquals(1, listener.count);
+    }
+
+    @Test
+    void concurrent() throws InterruptedException {
+
+        LiEventBus eventBus = new LiEventBus();
+        AtomicInteger count = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 100; i++) {
+            executor.execute(() -> eventBus.registerListener(new ILiEventListener<String>() {
+                @Override
+                public void listen(String event) {
+                    count.incrementAndGet();
+                }
+
+                @Override
+                public Class<String> componentType() {
+                    return String.class;
+                }
+            }));
+            executor.execute(() -> eventBus.push("123"));
+        }
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        count.set(0);
+        eventBus.push("123");
+        Assertions.assertEquals(100, count.get());
+    }
+
     private static class TestLiEventObject extends LiEventObject<String> {
 
         public TestLiEventObject(String source) {
@@ -4,7 +4,12 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 /**
  * @author leaderli
@@ -20,4 +25,24 @@ class StringReaderTest {
         Assertions.assertEquals("hello", stringReader.get());
     }
 
+    @Test
+    void charset() throws IOException {
+
+        StringBuilder expected = new StringBuilder();
+        while (expected.length() < InputStreamDecoder.BUFFER_SIZE * 3) {
+            expected.append("hello 你好 \uD83D\uDE00 ");
+        }
+        String str = expected.toString();
+
+        Assertions.assertEquals(str, new StringReader(new ByteArrayInputStream(str.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8).get());
+        Assertions.assertEquals(str, new StringReader(new ByteArrayInputStream(str.getBytes(StandardCharsets.UTF_16)),
+                StandardCharsets.UTF_16).get());
+
+        File file = File.createTempFile("StringReaderTest", ".txt");
+        file.deleteOnExit();
+        Files.write(file.toPath(), str.getBytes(StandardCharsets.UTF_8));
+        Assertions.assertEquals(str, new StringReader(new FileInputStream(file), StandardCharsets.UTF_8).get());
+    }
+
 }
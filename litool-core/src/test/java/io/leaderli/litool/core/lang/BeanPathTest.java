@@ -9,6 +9,8 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -97,11 +99,53 @@ class BeanPathTest {
     }
 
 
+    @Test
+    void compile() {
+
+        Assertions.assertSame(BeanPath.compile("inner.name"), BeanPath.compile("inner.name"));
+        Assertions.assertThrows(IllegalStateException.class, () -> BeanPath.compile(null));
+        Assertions.assertThrows(BeanPath.NotCompleteIllegalStateException.class, () -> BeanPath.compile("a["));
+
+        Outer outer = new Outer();
+        Assertions.assertEquals(outer.inner.name, BeanPath.compile("inner.name").parse(outer).get());
+        Assertions.assertEquals(0, BeanPath.compile("inner.age").parse(outer).get());
+        Assertions.assertEquals(18, BeanPath.compile("age").parse(new Inner(18)).get());
+        Assertions.assertEquals(Lino.none(), BeanPath.compile("inner.unknown").parse(outer));
+        Assertions.assertEquals("static", BeanPath.compile("inner.STATIC").parse(outer).get());
+        Assertions.assertEquals(Lino.none(), BeanPath.compile("inner.age").parse("inner"));
+
+        Assertions.assertEquals(outer.inners[1].name, BeanPath.compile("inners[1].name").parse(outer).get());
+        Assertions.assertEquals(outer.inners[1].name, BeanPath.compile("inners[-1].name").parse(outer).get());
+        Assertions.assertEquals(Lino.none(), BeanPath.compile("inners[2]").parse(outer));
+        Assertions.assertEquals(3, BeanPath.compile("ages[-1]").parse(outer).get());
+        Assertions.assertEquals(Lino.none(), BeanPath.compile("ages[-4]").parse(outer));
+
+        // index does not count null element, the same as Lira
+        List<Integer> list = Arrays.asList(null, 1, null, 2, 3, null);
+        Assertions.assertEquals(1, BeanPath.parse(list, "[0]").get());
+        Assertions.assertEquals(3, BeanPath.parse(list, "[2]").get());
+        Assertions.assertEquals(2, BeanPath.parse(list, "[-2]").get());
+        Assertions.assertEquals(Lino.none(), BeanPath.parse(list, "[3]"));
+        Assertions.assertEquals(Lino.none(), BeanPath.parse(list, "[-4]"));
+        Assertions.assertEquals(2, BeanPath.parse(new LinkedList<>(list), "[-2]").get());
+        Assertions.assertEquals(2, BeanPath.parse(list.toArray(), "[-2]").get());
+    }
+
+    private static class Outer {
+
+        private final Inner inner = new Inner(0);
+        private final Inner[] inners = {new Inner(1), new Inner(2)};
+        private final int[] ages = {1, 2, 3};
+    }
+
     private static class Inner {
 
+        private static final String STATIC = "static";
         private final String name = RandomUtil.randomString(4);
-        private int age;
-
+        private final int age;
 
+        private Inner(int age) {
+            this.age = age;
+        }
     }
 }
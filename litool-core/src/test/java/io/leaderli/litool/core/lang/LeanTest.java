@@ -2,12 +2,18 @@ package io.leaderli.litool.core.lang;
 
 import com.google.gson.Gson;
 import io.leaderli.litool.core.lang.lean.*;
+import io.leaderli.litool.core.lang.lean.adapters.ReflectAdapterFactory;
+import io.leaderli.litool.core.meta.Lira;
 import io.leaderli.litool.core.type.LiTypeToken;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author leaderli
@@ -199,6 +205,114 @@ class LeanTest {
 
     }
 
+    @Test
+    void test15() {
+
+        Lean lean = new Lean();
+
+        Bean10 source = new Bean10();
+        source.name = "10";
+        Bean14 copy = new Bean14();
+        lean.copyBean(source, copy);
+        Assertions.assertEquals(10, copy.name);
+
+        Bean15 other = new Bean15();
+        other.name = 20;
+        lean.copyBean(other, copy);
+        Assertions.assertEquals(20, copy.name);
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("name", "30");
+        Assertions.assertEquals(30, lean.fromBean(map, Bean14.class).name);
+
+        for (int i = 0; i < 3; i++) {
+            source.name = String.valueOf(i);
+            Assertions.assertEquals(i, lean.fromBean(source, Bean14.class).name);
+        }
+        Assertions.assertEquals(20, lean.fromBean(other, Bean16.class).name);
+
+        // the plan of the subclass target is cached separately
+        ReflectAdapterFactory.ReflectAdapter<?> adapter =
+                (ReflectAdapterFactory.ReflectAdapter<?>) lean.getAdapter(Bean14.class);
+        map.put("age", "40");
+        for (int i = 0; i < 2; i++) {
+            Bean17 sub = new Bean17();
+            adapter.populate(map, sub, lean);
+            Assertions.assertEquals(40, sub.age);
+            adapter.populate(source, copy, lean);
+            Assertions.assertEquals(2, copy.name);
+        }
+    }
+
+    @Test
+    void stream() {
+
+        Lean lean = new Lean();
+        List<Object> source = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Map<String, Object> map = new HashMap<>();
+            map.put("name", String.valueOf(i));
+            source.add(map);
+        }
+
+        List<Object> consumed = new ArrayList<>();
+        Lira<Bean14> lira = lean.stream(source, Bean14.class).debug(consumed::add);
+        Assertions.assertTrue(consumed.isEmpty());
+        Assertions.assertEquals(2, lira.limit(3).get(2).get().name);
+        Assertions.assertTrue(consumed.size() < source.size());
+
+        Assertions.assertEquals(Arrays.asList(1, 2), lean.stream(new String[]{"1", "2"}, Integer.class).get());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Bean14> beans = lean.parallelStream(source, LiTypeToken.<Bean14>of(Bean14.class), executor, 2).get();
+            Assertions.assertEquals(100, beans.size());
+            for (int i = 0; i < beans.size(); i++) {
+                Assertions.assertEquals(i, beans.get(i).name);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void warmUp() throws InterruptedException {
+
+        Lean lean = new Lean();
+        lean.warmUp(Bean2.class, LiTypeToken.getParameterized(Bean4.class, Bean1.class).getType());
+        Assertions.assertNotNull(lean.getCacheAdapter(LiTypeToken.of(Bean3.class)));
+        Assertions.assertNotNull(lean.getCacheAdapter(LiTypeToken.of(Bean1.class)));
+        Assertions.assertNotNull(lean.getCacheAdapter(LiTypeToken.of(String.class)));
+
+        Map map = gson.fromJson("{\"name\":\"1\",\"bean3\": {\"name\": \"2\",\"bean2\": {\"name\": \"3\"}}}",
+                Map.class);
+        Assertions.assertEquals("3", lean.fromBean(map, Bean2.class).bean3.bean2.name);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new Lean().warmUp(Bean8.class));
+
+        Lean concurrent = new Lean();
+        Set<TypeAdapter<?>> adapters = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 16; i++) {
+            executor.submit(() -> adapters.add(concurrent.getAdapter(Bean2.class)));
+        }
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, adapters.size());
+    }
+
+    private static class Bean15 {
+        private Integer name;
+    }
+
+    private static class Bean16 {
+        private final int name;
+
+        private Bean16() {
+            this.name = 0;
+        }
+    }
+
     private static class Bean12<T> {
         private String[] name;
         private T[] ages;
@@ -251,6 +365,10 @@ class LeanTest {
         private static int size;
     }
 
+    private static class Bean17 extends Bean14 {
+        private int age;
+    }
+
     private static class Bean9<T extends List> {
         @LeanFieldAdapter(StringTypeAdapter.class)
         private String name;
@@ -3,6 +3,10 @@ package io.leaderli.litool.core.lang;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -32,5 +36,29 @@ class ShellTest {
 
     }
 
+    @Test
+    void stream() throws ExecutionException, InterruptedException, TimeoutException {
+
+        List<String> lines = new ArrayList<>();
+        CompletableFuture<Integer> future = new Shell().bash("echo 123 && echo 456 && exit 3", lines::add);
+        Assertions.assertEquals(3, future.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(Arrays.asList("123", "456"), lines);
+
+        try (Shell.Lines iterator = new Shell().bashLines("for i in $(seq 1 3000); do echo $i; done")) {
+            for (int i = 1; i <= 3000; i++) {
+                Assertions.assertTrue(iterator.hasNext());
+                Assertions.assertEquals(String.valueOf(i), iterator.next());
+            }
+            Assertions.assertFalse(iterator.hasNext());
+            Assertions.assertEquals(0, iterator.waitFor());
+        }
+
+        try (Shell.Lines iterator = new Shell().bashLines("echo 1 && sleep 10")) {
+            Assertions.assertEquals("1", iterator.next());
+            iterator.close();
+            Assertions.assertFalse(iterator.hasNext());
+        }
+    }
+
 
 }
@@ -464,6 +464,19 @@ class LiraTest {
                 Lira.of(1, 2, 3, 4, 1).distinct().map(i -> i / 2).distinct().toArray());
 
         Assertions.assertEquals(1, Lira.of(1, 2, 3, 4, 1).distinct((left, right) -> left - right < 2).first().get());
+        Assertions.assertArrayEquals(new Integer[]{3, 1, 2}, Lira.of(3, 1, 3, 2, 1).distinct().toArray());
+    }
+
+    @Test
+    void distinctBy() {
+
+        Assertions.assertArrayEquals(new String[]{"a", "bb", "ccc"},
+                Lira.of("a", "bb", "c", "ccc", "dd").distinctBy(String::length).toArray());
+        Assertions.assertArrayEquals(new String[]{"100", "a"},
+                Lira.of(null, "a", null, "b").distinctBy(String::length).nullable(() -> "100").toArray());
+        Assertions.assertArrayEquals(new Integer[]{1, 2},
+                Lira.of(1, 2, 3, 4).distinctBy(i -> i % 2 == 0 ? "even" : "odd").toArray());
+        Assertions.assertTrue(Lira.<String>none().distinctBy(String::length).absent());
     }
 
     @Test
@@ -0,0 +1,101 @@
+package io.leaderli.litool.core.meta.ra;
+
+import io.leaderli.litool.core.meta.Lira;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * @author leaderli
+ * @since 2022/10/17
+ */
+class FusionTest {
+
+    private static final List<Integer> SOURCE = Arrays.asList(1, null, 2, 3, null, 4, 5, 6, 0, 7, 8, 9);
+
+    /**
+     * onError 之后的节点无法合并，作为订阅链执行的对照
+     */
+    private static Lira<Integer> chain(Iterable<Integer> source) {
+        return Lira.of(source).onError((t, c) -> {
+        });
+    }
+
+    private static void assertSame(Function<Lira<Integer>, Lira<?>> pipeline) {
+        for (Iterable<Integer> source : Arrays.<Iterable<Integer>>asList(SOURCE, new LinkedList<>(SOURCE))) {
+            Lira<?> fused = pipeline.apply(Lira.of(source));
+            Assertions.assertNotNull(((Ra<?>) fused).fuse());
+            Lira<?> chain = pipeline.apply(chain(source));
+            Assertions.assertNull(((Ra<?>) chain).fuse());
+
+            Assertions.assertEquals(chain.get(), fused.get());
+            Assertions.assertEquals(chain.first(), fused.first());
+            Assertions.assertEquals(chain.get(2), fused.get(2));
+
+            List<Object> each = new ArrayList<>();
+            fused.forEach(each::add);
+            Assertions.assertEquals(chain.get(), each);
+        }
+    }
+
+    @Test
+    void fuse() {
+        assertSame(lira -> lira.map(i -> i * 2));
+        assertSame(lira -> lira.filter(i -> i % 2 == 0));
+        assertSame(lira -> lira.skip(3).limit(4));
+        assertSame(lira -> lira.limit(4).skip(1));
+        assertSame(lira -> lira.map(i -> i == 3 ? null : i).limit(5));
+        assertSame(lira -> lira.filter(NullableFunction.isNull()).limit(2));
+        assertSame(lira -> lira.map(String::valueOf).cast(Integer.class));
+        assertSame(lira -> lira.map(i -> i == 4 ? (Object) "4" : i).cast(Integer.class).skip(2));
+        assertSame(lira -> lira.filter(i -> i > 1).map(i -> i + 1).skip(1).limit(3).map(i -> i * 10));
+    }
+
+    @Test
+    void error() {
+        // 抛出异常的元素视为 null 继续处理
+        assertSame(lira -> lira.map(i -> 10 / i).limit(7));
+        assertSame(lira -> lira.filter(i -> 10 / i > 1).skip(1));
+        assertSame(lira -> lira.map(i -> 10 / i).filter(NullableFunction.notNull()).limit(8));
+        // limit 之后的节点抛出异常，limit 仅计数一次
+        assertSame(lira -> lira.limit(4).map(i -> 10 / i));
+        assertSame(lira -> lira.limit(9).map(i -> 10 / i).filter(i -> i > 1).limit(2));
+        Assertions.assertEquals(Arrays.asList(2), Lira.of(1, 2, 3).limit(2).map(FusionTest::fail).get());
+        Assertions.assertEquals(Arrays.asList(2),
+                Lira.of(new ArrayList<>(Arrays.asList(1, 2, 3))).limit(2).map(FusionTest::fail).get());
+
+        Assertions.assertThrows(LiraRuntimeException.class, () -> Lira.of(1, 2).map(i -> {
+            throw new LiraRuntimeException();
+        }).get());
+    }
+
+    private static Integer fail(Integer i) {
+        if (i == 1) {
+            throw new IllegalStateException();
+        }
+        return i;
+    }
+
+    @Test
+    void sideEffect() {
+        AtomicInteger fused = new AtomicInteger();
+        AtomicInteger chain = new AtomicInteger();
+
+        Lira.of(SOURCE).map(fused::addAndGet).limit(3).get();
+        chain(SOURCE).map(chain::addAndGet).limit(3).get();
+        Assertions.assertEquals(chain.get(), fused.get());
+    }
+
+    @Test
+    void unfused() {
+        Assertions.assertNull(((Ra<?>) Lira.range().map(i -> i).limit(3)).fuse());
+        Assertions.assertEquals(Arrays.asList(0, 1, 2), Lira.range().map(i -> i).limit(3).get());
+        Assertions.assertNull(((Ra<?>) Lira.of(1, 2).sorted().map(i -> i)).fuse());
+    }
+}
@@ -0,0 +1,134 @@
+package io.leaderli.litool.core.meta.ra;
+
+import io.leaderli.litool.core.exception.InfiniteException;
+import io.leaderli.litool.core.meta.Lira;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * @author leaderli
+ * @since 2022/10/17
+ */
+class ParallelRaTest {
+
+    private static final List<Integer> SOURCE = Arrays.asList(1, null, 2, 3, null, 4, 5, 6, 0, 7, 8, 9);
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void beforeAll() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        executor.shutdown();
+    }
+
+    private static void assertSame(Function<Lira<Integer>, Lira<?>> pipeline) {
+        assertSame(pipeline, false);
+    }
+
+    /**
+     * @param positional 是否包含 skip、limit 等与元素位置相关的节点，无序时其结果不确定，仅比较数量
+     */
+    private static void assertSame(Function<Lira<Integer>, Lira<?>> pipeline, boolean positional) {
+        for (Iterable<Integer> source : Arrays.<Iterable<Integer>>asList(SOURCE, new LinkedList<>(SOURCE))) {
+            Lira<?> sequential = pipeline.apply(Lira.of(source));
+            Lira<?> parallel = pipeline.apply(Lira.of(source).parallel(executor, 3));
+
+            Assertions.assertEquals(sequential.get(), parallel.get());
+            Assertions.assertEquals(sequential.nullableGet(), parallel.nullableGet());
+            Assertions.assertEquals(sequential.first(), parallel.first());
+            Assertions.assertEquals(sequential.get(2), parallel.get(2));
+
+            Lira<?> unordered = pipeline.apply(Lira.of(source).parallel(executor, 3, false));
+            if (positional) {
+                Assertions.assertEquals(sequential.size(), unordered.size());
+            } else {
+                Assertions.assertEquals(sort(sequential.get()), sort(unordered.get()));
+            }
+        }
+    }
+
+    private static List<String> sort(List<?> list) {
+        return list.stream().map(String::valueOf).sorted().collect(Collectors.toList());
+    }
+
+    @Test
+    void parallel() {
+        assertSame(lira -> lira);
+        assertSame(lira -> lira.map(i -> i * 2));
+        assertSame(lira -> lira.filter(i -> i % 2 == 0));
+        assertSame(lira -> lira.map(i -> i == 3 ? null : i).nullable(() -> 100));
+        assertSame(lira -> lira.filter(NullableFunction.isNull()).map(i -> 1));
+        assertSame(lira -> lira.filter(i -> i > 1).map(i -> i + 1).skip(1).limit(3).map(i -> i * 10), true);
+        assertSame(lira -> lira.throwable_map(i -> 10 / i));
+        assertSame(lira -> lira.map(i -> 10 / i).nullable(() -> -1));
+        assertSame(lira -> lira.limit(5).parallel(executor, 2).map(i -> i + 1), true);
+
+        Assertions.assertEquals(Arrays.asList(2, 4, 6), Lira.of(1, 2, 3).parallel().map(i -> i * 2).get());
+        Assertions.assertTrue(Lira.<Integer>none().parallel().map(i -> i * 2).absent());
+    }
+
+    @Test
+    void threads() {
+
+        List<Integer> source = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<Integer> result = Lira.of(source).parallel(executor, 4).map(i -> {
+            threads.add(Thread.currentThread().getName());
+            return i + 1;
+        }).get();
+
+        Assertions.assertEquals(source.stream().map(i -> i + 1).collect(Collectors.toList()), result);
+        Assertions.assertFalse(threads.contains(Thread.currentThread().getName()));
+
+        List<Integer> unordered = new ArrayList<>(Lira.of(source).parallel(executor, 4, false).map(i -> i + 1).get());
+        Collections.sort(unordered);
+        Assertions.assertEquals(result, unordered);
+    }
+
+    @Test
+    void onError() {
+
+        List<Throwable> errors = new ArrayList<>();
+        List<Integer> result = Lira.of(2, 0, 5, 0).parallel(executor, 2)
+                .map(i -> 10 / i)
+                .onError((t, c) -> errors.add(t))
+                .get();
+        Assertions.assertEquals(Arrays.asList(5, 2), result);
+        Assertions.assertEquals(2, errors.size());
+        Assertions.assertTrue(errors.get(0) instanceof ArithmeticException);
+
+        errors.clear();
+        result = Lira.of(2, 0, 5, 0).map(i -> 10 / i).parallel(executor, 2)
+                .map(i -> i + 1)
+                .onError((t, c) -> {
+                    errors.add(t);
+                    c.cancel();
+                })
+                .get();
+        Assertions.assertEquals(Collections.singletonList(6), result);
+        Assertions.assertEquals(1, errors.size());
+
+        Assertions.assertThrows(LiraRuntimeException.class, () -> Lira.of(1, 2).parallel(executor, 2).map(i -> {
+            throw new LiraRuntimeException();
+        }).get());
+        Assertions.assertThrows(InfiniteException.class, () -> Lira.range().parallel(executor, 2).limit(2).get());
+    }
+}
@@ -3,6 +3,8 @@ package io.leaderli.litool.core.text;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -56,6 +58,29 @@ class StrSubstitutionTest {
         }));
     }
 
+    @Test
+    void compile() throws IOException {
+
+        StrSubstitution.Template template = StrSubstitution.compile("a={a},b={b},a={a},{{c}");
+        Assertions.assertSame(template, StrSubstitution.compile("a={a},b={b},a={a},{{c}"));
+        Assertions.assertEquals(Arrays.asList("a", "b"), template.variables());
+
+        Assertions.assertEquals("a=1,b=2,a=1,{c}", template.format(1, 2));
+        Assertions.assertEquals("a=1,b={b},a=1,{c}", template.format(1));
+        Assertions.assertEquals("a=A,b={b},a=A,{c}", template.format(s -> s.equals("a") ? "A" : null));
+
+        StringBuilder builder = new StringBuilder(">");
+        Assertions.assertSame(builder, template.render(builder, String::toUpperCase));
+        Assertions.assertEquals(">a=A,b=B,a=A,{c}", builder.toString());
+
+        StringWriter writer = new StringWriter();
+        template.render((Appendable) writer, String::toUpperCase);
+        Assertions.assertEquals("a=A,b=B,a=A,{c}", writer.toString());
+
+        Assertions.assertEquals("", StrSubstitution.compile(null).format(s -> s));
+        Assertions.assertEquals("a", StrSubstitution.compile("a").format());
+    }
+
     @Test
     void beanPath() {
 
@@ -102,7 +102,10 @@ class ReflectUtilTest {
         assertEquals(8, ReflectUtil.getField(LittleBean.class, "age").throwable_map(f -> f.get(littleBean)).get());
 
         Lino<Field> name = ReflectUtil.getField(LittleBean.class, "name", true);
+        // the field is shared, it may be made accessible by another caller before
+        name.get().setAccessible(false);
         assertNull(name.throwable_map(f -> f.get(littleBean), null).get());
+        assertEquals("little", ReflectUtil.getFieldValue(littleBean, name.get()).get());
 
         assertEquals("little", name.throwable_map(f -> {
             f.setAccessible(true);
@@ -244,6 +247,22 @@ class ReflectUtilTest {
         assertTrue(ReflectUtil.getMethod(LittleBean.class, "m1", true).absent());
     }
 
+    @Test
+    void cache() {
+
+        assertSame(ReflectUtil.getField(LittleBean.class, "name").get(), ReflectUtil.getField(LittleBean.class, "name").get());
+        assertSame(ReflectUtil.getMethod(LittleBean.class, "m3").get(), ReflectUtil.getMethods(LittleBean.class)
+                .filter(m -> m.getName().equals("m3")).first().get());
+        assertEquals(ReflectUtil.getFields(LittleBean.class), ReflectUtil.getFields(LittleBean.class));
+
+        // other caller reset the accessible of the shared member
+        ReflectUtil.getConstructor(LittleBean.class).get().setAccessible(false);
+        assertNotNull(ReflectUtil.newInstance(LittleBean.class).get());
+        Method m1 = ReflectUtil.getMethod(Static.class, "m1").get();
+        m1.setAccessible(false);
+        assertEquals(1, ReflectUtil.invokeMethod(m1, null).get());
+    }
+
     @Test
     void getMemberConstructor() {
 
@@ -4,10 +4,13 @@ import io.leaderli.litool.core.type.TypeUtil;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -157,6 +160,46 @@ class TypeUtilTest {
 
     }
 
+    @Test
+    void cache() throws NoSuchFieldException {
+        Type declare = new Li<String>() {
+        }.getClass();
+        Type lt = Li.class.getField("lt").getGenericType();
+
+        Assertions.assertSame(TypeUtil.resolve(declare, lt), TypeUtil.resolve(declare, lt));
+        Assertions.assertSame(TypeUtil.resolve(declare, lt), TypeUtil.intern(ParameterizedTypeImpl.make(null,
+                List.class, String.class)));
+        Assertions.assertSame(TypeUtil.resolve2Parameterized(declare, Li.class),
+                TypeUtil.resolve2Parameterized(declare, Li.class));
+        Assertions.assertSame(String.class, TypeUtil.intern(String.class));
+        Assertions.assertNull(TypeUtil.intern(null));
+        Assertions.assertSame(String[].class, TypeUtil.resolve(declare, String[].class));
+    }
+
+    @Test
+    void cacheClassLoader() throws Exception {
+        URL classes = Li.class.getProtectionDomain().getCodeSource().getLocation();
+        WeakReference<ClassLoader> loader = resolveByIsolatedClassLoader(classes);
+        for (int i = 0; i < 50 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        // the cache does not keep the class loader reachable
+        assertNull(loader.get());
+    }
+
+    private static WeakReference<ClassLoader> resolveByIsolatedClassLoader(URL classes) throws Exception {
+        URLClassLoader loader = new URLClassLoader(new URL[]{classes}, ClassLoader.getSystemClassLoader().getParent());
+        Class<?> li = loader.loadClass(Li.class.getName());
+        assertNotSame(Li.class, li);
+        Type declare = ParameterizedTypeImpl.make(null, li, String.class);
+        Type lt = li.getField("lt").getGenericType();
+        assertEquals(ParameterizedTypeImpl.make(null, List.class, String.class), TypeUtil.resolve(declare, lt));
+        assertSame(TypeUtil.resolve(declare, lt), TypeUtil.resolve(declare, lt));
+        loader.close();
+        return new WeakReference<>(loader);
+    }
+
     @Test
     void checkNotPrimitive() {
 
@@ -11,8 +11,11 @@ import org.dom4j.dom.DOMElement;
 import org.dom4j.io.OutputFormat;
 import org.dom4j.io.SAXReader;
 import org.dom4j.io.XMLWriter;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
 import java.io.*;
 import java.util.List;
 
@@ -33,18 +36,33 @@ public class LiDomUtil {
     }
 
     public static DOMDocument getDOMDocumentByPath(String path) throws DocumentException {
-        return (DOMDocument) getSAXReader().read(ResourceUtil.getResourceAsStream(path));
+        return getDOMDocumentByInputStream(ResourceUtil.getResourceAsStream(path));
 
     }
 
-    private static SAXReader getSAXReader() {
-        SAXReader saxReader = new SAXReader(DOMDocumentFactory.getInstance(), false);
+    /**
+     * read the document by a parser of {@link SAXParserPool#NAMESPACE_AWARE}
+     *
+     * @param source the xml source
+     * @return the document
+     * @throws DocumentException if an error occurs during parsing
+     */
+    private static DOMDocument read(InputSource source) throws DocumentException {
+        SAXParser parser;
         try {
-            saxReader.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            parser = SAXParserPool.NAMESPACE_AWARE.borrow();
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new DocumentException(e.getMessage(), e);
+        }
+        try {
+            SAXReader saxReader = new SAXReader(DOMDocumentFactory.getInstance(), false);
+            saxReader.setXMLReader(parser.getXMLReader());
+            return (DOMDocument) saxReader.read(source);
         } catch (SAXException e) {
-            e.printStackTrace();
+            throw new DocumentException(e.getMessage(), e);
+        } finally {
+            SAXParserPool.NAMESPACE_AWARE.release(parser);
         }
-        return saxReader;
     }
 
     public static DOMElement getDOMRootByInputStream(InputStream inputStream) throws DocumentException {
@@ -53,7 +71,7 @@ public class LiDomUtil {
     }
 
     public static DOMDocument getDOMDocumentByInputStream(InputStream inputStream) throws DocumentException {
-        return (DOMDocument) getSAXReader().read(inputStream);
+        return read(new InputSource(inputStream));
 
     }
 
@@ -63,7 +81,7 @@ public class LiDomUtil {
     }
 
     public static DOMDocument getDOMDocumentByString(String xml) throws DocumentException {
-        return (DOMDocument) getSAXReader().read(new StringReader(xml));
+        return read(new InputSource(new StringReader(xml)));
 
     }
 
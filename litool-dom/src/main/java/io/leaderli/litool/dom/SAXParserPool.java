@@ -0,0 +1,155 @@
+package io.leaderli.litool.dom;
+
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A thread-safe pool of {@link SAXParser}, the {@link SAXParserFactory} is looked up and configured once, the parsers
+ * created by it disallow the doctype declaration. the parser is {@link SAXParser#reset()} when it's released, so it
+ * has the same features as a new one.
+ * <p>
+ * the parsers are created on demand and at most {@link #getSize()} idle parsers are kept, the default size can be
+ * specified by the system property {@link #POOL_SIZE_PROPERTY}
+ *
+ * @author leaderli
+ * @since 2022/10/17
+ */
+public class SAXParserPool {
+
+    /**
+     * the system property of the default pool size
+     */
+    public static final String POOL_SIZE_PROPERTY = "litool.sax.pool.size";
+    public static final int DEFAULT_POOL_SIZE = Integer.getInteger(POOL_SIZE_PROPERTY,
+            Runtime.getRuntime().availableProcessors());
+    /**
+     * the pool of not namespace aware parsers, the same as {@link SAXParserFactory#newInstance()}
+     */
+    public static final SAXParserPool DEFAULT = new SAXParserPool(false, DEFAULT_POOL_SIZE);
+    /**
+     * the pool of namespace aware parsers
+     */
+    public static final SAXParserPool NAMESPACE_AWARE = new SAXParserPool(true, DEFAULT_POOL_SIZE);
+
+    private final SAXParserFactory factory;
+    private final BlockingQueue<SAXParser> idle;
+    private final int size;
+    private boolean configured;
+
+    /**
+     * @param namespaceAware whether the parsers are namespace aware
+     * @param size           the max number of idle parsers
+     * @throws IllegalArgumentException if {@code size < 1}
+     */
+    public SAXParserPool(boolean namespaceAware, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("the size of pool should be positive: " + size);
+        }
+        this.factory = SAXParserFactory.newInstance();
+        this.factory.setNamespaceAware(namespaceAware);
+        this.idle = new ArrayBlockingQueue<>(size);
+        this.size = size;
+    }
+
+    /**
+     * @return an idle parser or a new parser, it should be {@link #release(SAXParser)} after use
+     * @throws ParserConfigurationException if the parser cannot be created
+     * @throws SAXException                 if the feature of parser cannot be set
+     */
+    public SAXParser borrow() throws ParserConfigurationException, SAXException {
+
+        SAXParser parser = idle.poll();
+        if (parser != null) {
+            return parser;
+        }
+        // the factory is not thread-safe
+        synchronized (factory) {
+            if (!configured) {
+                factory.setFeature(LiDomConstant.DISALLOW_DOCTYPE_DECL_FEATURE, true);
+                configured = true;
+            }
+            return factory.newSAXParser();
+        }
+    }
+
+    /**
+     * reset the parser and return it to the pool, the parser is discarded if it cannot be reset or the pool is full.
+     * the handlers are cleared, so the idle parser does not hold the result of last parsing
+     *
+     * @param parser the parser borrowed from this pool
+     */
+    public void release(SAXParser parser) {
+
+        if (parser == null) {
+            return;
+        }
+        try {
+            XMLReader reader = parser.getXMLReader();
+            reader.setContentHandler(null);
+            reader.setDTDHandler(null);
+            reader.setErrorHandler(null);
+            reader.setEntityResolver(null);
+            parser.reset();
+        } catch (SAXException | RuntimeException e) {
+            return;
+        }
+        idle.offer(parser);
+    }
+
+    /**
+     * parse the xml by a pooled parser, the inputStream is not closed
+     *
+     * @param inputStream the xml inputStream
+     * @param handler     the SAX handler
+     * @throws ParserConfigurationException if the parser cannot be created
+     * @throws SAXException                 if any SAX errors occur during processing
+     * @throws IOException                  if an I/O error occurs
+     */
+    public void parse(InputStream inputStream, DefaultHandler handler) throws ParserConfigurationException,
+            SAXException, IOException {
+        parse(new InputSource(inputStream), handler);
+    }
+
+    /**
+     * parse the xml by a pooled parser
+     *
+     * @param source  the xml source
+     * @param handler the SAX handler
+     * @throws ParserConfigurationException if the parser cannot be created
+     * @throws SAXException                 if any SAX errors occur during processing
+     * @throws IOException                  if an I/O error occurs
+     */
+    public void parse(InputSource source, DefaultHandler handler) throws ParserConfigurationException,
+            SAXException, IOException {
+        SAXParser parser = borrow();
+        try {
+            parser.parse(source, handler);
+        } finally {
+            release(parser);
+        }
+    }
+
+    /**
+     * @return the max number of idle parsers
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return the number of idle parsers
+     */
+    public int getIdle() {
+        return idle.size();
+    }
+}
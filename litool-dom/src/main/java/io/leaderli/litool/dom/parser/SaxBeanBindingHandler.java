@@ -0,0 +1,108 @@
+package io.leaderli.litool.dom.parser;
+
+import io.leaderli.litool.dom.LocatorDefaultHandler;
+import io.leaderli.litool.dom.sax.*;
+import org.xml.sax.Attributes;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 在 SAX 回调中直接绑定 {@link SaxBean}，不保存事件列表。事件在分发后即被丢弃，只保留当前路径上的
+ * {@link SaxBeanAdapter}，因此内存占用取决于文档深度而不是文档大小
+ * <p>
+ * 连续的 body 片段会合为一个 {@link BodyEvent}，在下一个标签开始或结束前分发，与 {@link SaxEventLocatorHandler}
+ * 产生的事件序列一致
+ *
+ * @author leaderli
+ * @since 2022/10/17
+ */
+public class SaxBeanBindingHandler extends LocatorDefaultHandler {
+
+    private final Deque<SaxBeanAdapter> saxBeanStack = new ArrayDeque<>();
+    private final StringBuilder bodyText = new StringBuilder();
+    private final SaxBean root;
+    private final SaxBean ignoreSaxBean;
+    private final List<String> parseErrorMsgs;
+    private BodyEvent bodyEvent;
+
+    /**
+     * @param root           根标签对应的实例
+     * @param ignoreSaxBean  无具体实现类的标签的默认实现
+     * @param parseErrorMsgs 收集解析时的错误信息
+     */
+    public SaxBeanBindingHandler(SaxBean root, SaxBean ignoreSaxBean, List<String> parseErrorMsgs) {
+        this.root = root;
+        this.ignoreSaxBean = ignoreSaxBean;
+        this.parseErrorMsgs = parseErrorMsgs;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+
+        flushBody();
+
+        if (saxBeanStack.isEmpty()) {
+            saxBeanStack.push(SaxBeanAdapter.of(root));
+        } else {
+            SaxBeanAdapter peek = saxBeanStack.peek();
+            StartEvent startEvent = new StartEvent(this.locator, qName);
+            // 设置默认空标签
+            startEvent.setNewSaxBean(SaxBeanAdapter.of(ignoreSaxBean));
+            peek.start(startEvent);
+
+            // 实际解析后的有效标签
+            saxBeanStack.push(startEvent.getNewSaxBean());
+        }
+
+        SaxBeanAdapter peek = saxBeanStack.peek();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            peek.attribute(new AttributeEvent(this.locator, attributes.getQName(i), attributes.getValue(i)));
+        }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) {
+
+        flushBody();
+
+        SaxBeanAdapter pop = saxBeanStack.pop();
+        EndEvent endEvent = new EndEvent(this.locator, qName);
+        endEvent.setSaxBeanWrapper(pop);
+        pop.end(endEvent);
+
+        parseErrorMsgs.addAll(pop.getParseErrorMsgs());
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+
+        int end = start + length;
+        while (start < end && ch[start] <= ' ') {
+            start++;
+        }
+        while (end > start && ch[end - 1] <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return;
+        }
+        // 多个连续 body 片段合为一起，body 的位置为第一个片段的位置
+        if (bodyEvent == null) {
+            bodyEvent = new BodyEvent(this.locator);
+        }
+        bodyText.append(ch, start, end - start);
+    }
+
+    private void flushBody() {
+
+        if (bodyEvent == null) {
+            return;
+        }
+        bodyEvent.append(bodyText.toString());
+        saxBeanStack.peek().body(bodyEvent);
+        bodyEvent = null;
+        bodyText.setLength(0);
+    }
+}
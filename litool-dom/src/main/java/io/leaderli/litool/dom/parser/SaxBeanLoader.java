@@ -0,0 +1,154 @@
+package io.leaderli.litool.dom.parser;
+
+import io.leaderli.litool.core.resource.ResourceUtil;
+import io.leaderli.litool.core.resource.WalkFileFilter;
+import io.leaderli.litool.dom.sax.SaxBean;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 并发解析多个 xml 文件，每个文件使用独立的 {@link SaxEventInterceptor}，解析时会执行 {@link SaxBean#end_check(List)}
+ * 等校验，并收集每个文件的 parseErrorMsgs
+ *
+ * @author leaderli
+ * @since 2022/10/17
+ */
+public class SaxBeanLoader<T extends SaxBean> {
+
+    private final Class<T> entryClass;
+    private final Executor executor;
+
+    /**
+     * 使用 {@link ForkJoinPool#commonPool()} 解析
+     *
+     * @param entryClass 根标签对应的类
+     */
+    public SaxBeanLoader(Class<T> entryClass) {
+        this(entryClass, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param entryClass 根标签对应的类
+     * @param executor   解析文件的线程池
+     */
+    public SaxBeanLoader(Class<T> entryClass, Executor executor) {
+        Objects.requireNonNull(entryClass);
+        Objects.requireNonNull(executor);
+        this.entryClass = entryClass;
+        this.executor = executor;
+    }
+
+    /**
+     * @param resource_name classpath 下的资源名
+     * @param fileFilter    文件过滤器
+     * @return 解析结果
+     * @see ResourceUtil#getResourceFiles(String, WalkFileFilter)
+     * @see #load(Collection)
+     */
+    public Map<File, Result<T>> load(String resource_name, WalkFileFilter fileFilter) {
+        return load(ResourceUtil.getResourceFiles(resource_name, fileFilter).get());
+    }
+
+    /**
+     * 并发解析所有文件，等待全部解析完成后返回。单个文件解析失败不会影响其他文件
+     *
+     * @param files xml 文件
+     * @return 文件与其解析结果，顺序与 files 一致
+     */
+    public Map<File, Result<T>> load(Collection<File> files) {
+
+        List<CompletableFuture<Result<T>>> futures = new ArrayList<>(files.size());
+        for (File file : files) {
+            futures.add(CompletableFuture.supplyAsync(() -> parse(file), executor));
+        }
+
+        Map<File, Result<T>> results = new LinkedHashMap<>();
+        int i = 0;
+        for (File file : files) {
+            results.put(file, futures.get(i++).join());
+        }
+        return results;
+    }
+
+    private Result<T> parse(File file) {
+
+        SaxEventInterceptor<T> interceptor = new SaxEventInterceptor<>(entryClass);
+        try (InputStream in = new FileInputStream(file)) {
+            T bean = interceptor.parse(in);
+            return new Result<>(bean, interceptor.getParseErrorMsgs(), null);
+        } catch (IOException e) {
+            return new Result<>(null, interceptor.getParseErrorMsgs(), new UncheckedIOException(e));
+        } catch (RuntimeException e) {
+            return new Result<>(null, interceptor.getParseErrorMsgs(), e);
+        }
+    }
+
+    /**
+     * 单个文件的解析结果
+     *
+     * @param <T> 根标签的类型
+     */
+    public static class Result<T extends SaxBean> {
+
+        private final T bean;
+        private final List<String> parseErrorMsgs;
+        private final RuntimeException error;
+
+        private Result(T bean, List<String> parseErrorMsgs, RuntimeException error) {
+            this.bean = bean;
+            this.parseErrorMsgs = Collections.unmodifiableList(parseErrorMsgs);
+            this.error = error;
+        }
+
+        /**
+         * @return 根标签对应的实例，解析失败时为 null
+         */
+        public T getBean() {
+            return bean;
+        }
+
+        /**
+         * @return 解析及校验时的错误信息
+         */
+        public List<String> getParseErrorMsgs() {
+            return parseErrorMsgs;
+        }
+
+        /**
+         * @return 解析失败的异常，例如 xml 格式错误
+         */
+        public RuntimeException getError() {
+            return error;
+        }
+
+        /**
+         * @return 是否解析成功且没有错误信息
+         */
+        public boolean isSuccess() {
+            return error == null && parseErrorMsgs.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return "Result{" +
+                    "bean=" + bean +
+                    ", parseErrorMsgs=" + parseErrorMsgs +
+                    ", error=" + error +
+                    '}';
+        }
+    }
+}
@@ -1,14 +1,13 @@
 package io.leaderli.litool.dom.parser;
 
-import io.leaderli.litool.core.exception.RuntimeExceptionTransfer;
+import io.leaderli.litool.core.exception.RuntimeExceptionTransferException;
 import io.leaderli.litool.core.resource.ResourceUtil;
 import io.leaderli.litool.core.type.ReflectUtil;
+import io.leaderli.litool.dom.SAXParserPool;
 import io.leaderli.litool.dom.sax.*;
 import org.xml.sax.SAXException;
 
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.parsers.SAXParser;
-import javax.xml.parsers.SAXParserFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.*;
@@ -47,74 +46,29 @@ public class SaxEventInterceptor<T extends SaxBean> {
         return parse(ResourceUtil.getResourceAsStream(path));
     }
 
+    /**
+     * 在 SAX 回调中直接绑定标签，不保存事件列表，内存占用取决于文档深度而不是文档大小。解析器取自
+     * {@link SAXParserPool#DEFAULT}
+     *
+     * @param xmlStream xml 输入流
+     * @return 根标签对应的实例
+     * @see SaxBeanBindingHandler
+     */
     public T parse(InputStream xmlStream) {
 
-        List<SaxEvent> saxEventList = RuntimeExceptionTransfer.get(() -> getSaxEventList(xmlStream));
-
         T root = ReflectUtil.newInstance(entryClass).get();
 
-        Deque<SaxBeanAdapter> saxBeanStack = new ArrayDeque<>();
-        for (SaxEvent saxEvent : saxEventList) {
-
-
-            if (saxEvent instanceof StartEvent) {
-
-
-                if (saxBeanStack.isEmpty()) {
-                    saxBeanStack.push(SaxBeanAdapter.of(root));
-                } else {
-
-
-                    SaxBeanAdapter peek = saxBeanStack.peek();
-                    StartEvent startEvent = (StartEvent) saxEvent;
-                    // 设置默认空标签
-                    startEvent.setNewSaxBean(SaxBeanAdapter.of(ignoreSaxBean));
-                    peek.start(startEvent);
-
-                    // 实际解析后的有效标签
-                    SaxBeanAdapter newSaxBean = startEvent.getNewSaxBean();
-                    saxBeanStack.push(newSaxBean);
-                }
-
-            } else if (saxEvent instanceof AttributeEvent) {
-
-                SaxBeanAdapter peek = saxBeanStack.peek();
-                peek.attribute((AttributeEvent) saxEvent);
-
-            } else if (saxEvent instanceof BodyEvent) {
-
-                SaxBeanAdapter peek = saxBeanStack.peek();
-
-                peek.body((BodyEvent) saxEvent);
-
-            } else if (saxEvent instanceof EndEvent) {
-
-                SaxBeanAdapter pop = saxBeanStack.pop();
-
-                EndEvent endEvent = (EndEvent) saxEvent;
-                endEvent.setSaxBeanWrapper(pop);
-
-                pop.end(endEvent);
-
-                parseErrorMsgs.addAll(pop.getParseErrorMsgs());
-
-            }
+        SaxBeanBindingHandler handler = new SaxBeanBindingHandler(root, ignoreSaxBean, parseErrorMsgs);
+        try {
+            SAXParserPool.DEFAULT.parse(xmlStream, handler);
+        } catch (ParserConfigurationException | SAXException | IOException e) {
+            // 与绑定时抛出的异常区分，只转换解析异常
+            throw new RuntimeExceptionTransferException(e);
         }
         return root;
     }
 
 
-    private static List<SaxEvent> getSaxEventList(InputStream xmlStream) throws ParserConfigurationException,
-            SAXException, IOException {
-        SAXParserFactory saxParserFactory = SAXParserFactory.newInstance();
-        saxParserFactory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-        SAXParser saxParser = saxParserFactory.newSAXParser();
-        SaxEventLocatorHandler dh = new SaxEventLocatorHandler();
-
-        saxParser.parse(xmlStream, dh);
-        return dh.getSaxEventList();
-    }
-
     public List<String> getParseErrorMsgs() {
         return parseErrorMsgs;
     }
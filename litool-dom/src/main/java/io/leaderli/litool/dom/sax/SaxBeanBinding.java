@@ -0,0 +1,228 @@
+package io.leaderli.litool.dom.sax;
+
+import io.leaderli.litool.core.meta.Lino;
+import io.leaderli.litool.core.text.StringConvert;
+import io.leaderli.litool.core.type.ClassUtil;
+import io.leaderli.litool.core.type.MethodScanner;
+import io.leaderli.litool.core.type.ModifierUtil;
+import io.leaderli.litool.core.type.ReflectUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * SaxBean 类的绑定信息，每个类只解析一次，标签名和属性名不区分大小写
+ * <ul>
+ *     <li>子标签对应的 set(优先级更高) 或 add 方法，以及子标签实例的构造器</li>
+ *     <li>属性对应的 set 方法，以及 {@link StringConvert} 的转换器</li>
+ *     <li>需要在 end 时校验是否已初始化的成员变量</li>
+ * </ul>
+ *
+ * @author leaderli
+ * @since 2022/10/17
+ * @see SaxEventHandler
+ */
+final class SaxBeanBinding {
+
+    private static final ClassValue<SaxBeanBinding> BINDINGS = new ClassValue<SaxBeanBinding>() {
+        @Override
+        protected SaxBeanBinding computeValue(Class<?> type) {
+            return new SaxBeanBinding(type);
+        }
+    };
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private final Map<String, Child> children = new HashMap<>();
+    private final Map<String, Attribute> attributes = new HashMap<>();
+    private final List<RequiredField> requiredFields = new ArrayList<>();
+
+    private SaxBeanBinding(Class<?> cls) {
+
+        for (Method method : MethodScanner.of(cls, false, m -> m.getParameterCount() == 1).scan()) {
+
+            String name = method.getName();
+            if (name.length() <= 3) {
+                continue;
+            }
+            String prefix = name.substring(0, 3).toLowerCase(Locale.ROOT);
+            String key = key(name.substring(3));
+            boolean set = "set".equals(prefix);
+            if (set) {
+                // 与 MethodScanner 的扫描顺序一致，取第一个
+                attributes.putIfAbsent(key, new Attribute(method));
+            }
+            if ((set || "add".equals(prefix))
+                    && ClassUtil.isAssignableFromOrIsWrapper(SaxBean.class, method.getParameterTypes()[0])) {
+                // 按方法名倒序取第一个，即 set 优先于 add
+                Child child = children.get(key);
+                if (child == null || name.compareTo(child.name) > 0) {
+                    children.put(key, new Child(cls, method, set));
+                }
+            }
+        }
+        for (Field field : ReflectUtil.getFields(cls)) {
+            requiredFields.add(new RequiredField(field));
+        }
+    }
+
+    static SaxBeanBinding of(Class<?> cls) {
+        return BINDINGS.get(cls);
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param tag 子标签名
+     * @return 子标签的绑定信息
+     */
+    Lino<Child> child(String tag) {
+        return Lino.of(children.get(key(tag)));
+    }
+
+    /**
+     * @param name 属性名
+     * @return 属性的绑定信息
+     */
+    Lino<Attribute> attribute(String name) {
+        return Lino.of(attributes.get(key(name)));
+    }
+
+    /**
+     * @return 需要校验的成员变量，不可修改
+     */
+    List<RequiredField> requiredFields() {
+        return requiredFields;
+    }
+
+    private static Invoker invoker(Method method) {
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflect(method).asType(INVOKER_TYPE);
+            return (target, arg) -> (Object) handle.invokeExact(target, arg);
+        } catch (IllegalAccessException | RuntimeException e) {
+            // 无法访问的方法仍使用反射调用
+            return method::invoke;
+        }
+    }
+
+    /**
+     * 方法的调用器，返回值被忽略
+     */
+    @FunctionalInterface
+    interface Invoker {
+
+        @SuppressWarnings("java:S112")
+        Object invoke(Object target, Object arg) throws Throwable;
+    }
+
+    static final class Child {
+
+        final String name;
+        final Invoker setter;
+        /**
+         * 使用 set 注入时，用于校验是否已经注入的 get 方法
+         */
+        final Lino<MethodHandle> getter;
+        private final Class<?> type;
+        private final MethodHandle constructor;
+
+        private Child(Class<?> cls, Method method, boolean set) {
+            this.name = method.getName();
+            this.setter = invoker(method);
+            this.type = method.getParameterTypes()[0];
+            this.getter = set ? getter(cls, name.substring(3)) : Lino.none();
+            this.constructor = constructor(type);
+        }
+
+        private static Lino<MethodHandle> getter(Class<?> cls, String tag) {
+            return MethodScanner.of(cls, false, get ->
+                            get.getName().equalsIgnoreCase("get" + tag)
+                                    && get.getParameterCount() == 0
+                                    && ClassUtil.isAssignableFromOrIsWrapper(SaxBean.class, get.getReturnType()))
+                    .scan()
+                    .first()
+                    .throwable_map(get -> MethodHandles.lookup().unreflect(get).asType(GETTER_TYPE), null);
+        }
+
+        private static MethodHandle constructor(Class<?> type) {
+            if (type.isInterface() || ModifierUtil.isAbstract(type)) {
+                return null;
+            }
+            Lino<? extends Constructor<?>> constructor = ReflectUtil.getConstructor(type);
+            return constructor
+                    .throwable_map(c -> MethodHandles.lookup().unreflectConstructor(c).asType(CONSTRUCTOR_TYPE), null)
+                    .get();
+        }
+
+        /**
+         * saxBean 都有一个无参的构造器
+         *
+         * @return 子标签的实例
+         */
+        @SuppressWarnings("java:S1181")
+        Lino<SaxBean> newInstance() {
+            if (constructor == null) {
+                // 例如成员内部类
+                return ReflectUtil.newInstance(type).cast(SaxBean.class);
+            }
+            try {
+                return Lino.of((Object) constructor.invokeExact()).cast(SaxBean.class);
+            } catch (Throwable throwable) {
+                return Lino.none();
+            }
+        }
+    }
+
+    static final class Attribute {
+
+        final Invoker setter;
+        final Class<?> type;
+        /**
+         * 原始类型的转换器，复杂类型为 null
+         */
+        final Function<String, Lino<?>> converter;
+
+        private Attribute(Method method) {
+            this.setter = invoker(method);
+            this.type = method.getParameterTypes()[0];
+            this.converter = StringConvert.support(type) ? value -> StringConvert.parser(type, value) : null;
+        }
+    }
+
+    static final class RequiredField {
+
+        final Field field;
+        private final MethodHandle getter;
+
+        private RequiredField(Field field) {
+            this.field = field;
+            this.getter = ReflectUtil.getGetter(field).get();
+        }
+
+        @SuppressWarnings("java:S1181")
+        Lino<?> get(Object obj) {
+            if (getter == null) {
+                return ReflectUtil.getFieldValue(obj, field);
+            }
+            try {
+                return Lino.of((Object) getter.invokeExact(obj));
+            } catch (Throwable throwable) {
+                return Lino.none();
+            }
+        }
+    }
+}
@@ -3,22 +3,18 @@ package io.leaderli.litool.dom.sax;
 import io.leaderli.litool.core.exception.ExceptionUtil;
 import io.leaderli.litool.core.exception.LiAssertUtil;
 import io.leaderli.litool.core.meta.Lino;
-import io.leaderli.litool.core.text.StringConvert;
-import io.leaderli.litool.core.text.StringUtils;
-import io.leaderli.litool.core.type.ClassUtil;
-import io.leaderli.litool.core.type.MethodScanner;
 import io.leaderli.litool.core.type.ReflectUtil;
 import org.xml.sax.Locator;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.List;
 
 /**
  * @author leaderli
  * @since 2022/7/24
  * <p>
- * 默认的事件处理器，具体 SaxBean 可以重写相关事件，达到更精准的处理
+ * 默认的事件处理器，具体 SaxBean 可以重写相关事件，达到更精准的处理。绑定所需的反射信息每个类只解析一次
+ *
+ * @see SaxBeanBinding
  */
 public interface SaxEventHandler {
 
@@ -36,39 +32,20 @@ public interface SaxEventHandler {
 
         String tag = startEvent.name;
 
-        MethodScanner methodScanner = MethodScanner.of(getClass(), false, method ->
+        SaxBeanBinding.of(getClass()).child(tag).ifPresent(child -> {
 
-                StringUtils.equalsAnyIgnoreCase(method.getName(), "set" + tag, "add" + tag)
-                        && method.getParameterCount() == 1
-                        && ClassUtil.isAssignableFromOrIsWrapper(SaxBean.class, method.getParameterTypes()[0]));
-
-
-        Lino<Method> find = methodScanner.scan()
-                .sorted((m1, m2) -> m2.getName().compareTo(m1.getName()))
-                .first();
-
-        if (find.present()) {
-            Method method = find.get();
             // 使用 set 注入属性应当是唯一的
-            if (method.getName().startsWith("set")) {
-                methodScanner = MethodScanner.of(getClass(), false, get ->
-                        StringUtils.equalsAnyIgnoreCase(get.getName(), "get" + tag)
-                                && get.getParameterCount() == 0
-                                && ClassUtil.isAssignableFromOrIsWrapper(SaxBean.class, get.getReturnType()));
-                methodScanner.scan().first()
-                        .ifPresent(get -> LiAssertUtil.assertTrue(ReflectUtil.invokeMethod(get, this).absent(),
-                                String.format("%s:%s already inited", getClass().getSimpleName(), tag)));
+            child.getter.ifPresent(get -> LiAssertUtil.assertTrue(Lino.throwable_of(() -> get.invoke(this)).absent(),
+                    String.format("%s:%s already inited", getClass().getSimpleName(), tag)));
 
-
-            }
             // saxBean 都有一个 包含 tag 的构造器
-            ReflectUtil.newInstance(method.getParameterTypes()[0]).cast(SaxBean.class).ifPresent(sax -> {
+            child.newInstance().ifPresent(sax -> {
                 SaxBeanAdapter saxBeanAdapter = SaxBeanAdapter.of(sax);
                 // 成员变量在执行到 end 时可以确保已经加载好，此时通过回调函数再注入到实例中
                 saxBeanAdapter.addCallback(() -> {
 
                     try {
-                        method.invoke(this, sax);
+                        child.setter.invoke(this, sax);
                     } catch (Throwable throwable) {
 
                         Throwable cause = ExceptionUtil.getCause(throwable);
@@ -79,8 +56,7 @@ public interface SaxEventHandler {
                 });
                 startEvent.setNewSaxBean(saxBeanAdapter);
             });
-
-        }
+        });
 
     }
 
@@ -88,26 +64,20 @@ public interface SaxEventHandler {
     default void attribute(AttributeEvent attributeEvent) {
         // 使用 attribute 的值填充 field 的值
 
-        MethodScanner methodScanner = MethodScanner.of(getClass(), false, method ->
-
-                StringUtils.equalsAnyIgnoreCase(method.getName(), "set" + attributeEvent.name)
-                        && method.getParameterCount() == 1);
-
-        methodScanner.scan().first().ifPresent(method -> {
+        SaxBeanBinding.of(getClass()).attribute(attributeEvent.name).ifPresent(attribute -> {
 
-            Class<?> parameterType = method.getParameterTypes()[0];
             String value = attributeEvent.value;
             Lino<?> fieldValue;
 
             // 原始类型直接转换
-            if (StringConvert.support(parameterType)) {
+            if (attribute.converter != null) {
 
-                fieldValue = StringConvert.parser(parameterType, value);
+                fieldValue = attribute.converter.apply(value);
             } else {
-                fieldValue = complexField(parameterType, value);
+                fieldValue = complexField(attribute.type, value);
             }
 
-            fieldValue.ifThrowablePresent(val -> method.invoke(this, val));
+            fieldValue.ifThrowablePresent(val -> attribute.setter.invoke(this, val));
         });
 
     }
@@ -129,8 +99,8 @@ public interface SaxEventHandler {
     default void end(EndEvent endEvent) {
 
         // 校验是否有成员变量未初始化
-        for (Field field : ReflectUtil.getFields(getClass())) {
-            ReflectUtil.getFieldValue(this, field).assertNotNone(String.format("%s has no init", field));
+        for (SaxBeanBinding.RequiredField field : SaxBeanBinding.of(getClass()).requiredFields()) {
+            field.get(this).assertNotNone(String.format("%s has no init", field.field));
         }
 
         end_check(endEvent.getSaxBeanWrapper().getParseErrorMsgs());
@@ -0,0 +1,55 @@
+package io.leaderli.litool.dom;
+
+import org.dom4j.DocumentException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.SAXParser;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author leaderli
+ * @since 2022/10/17
+ */
+class SAXParserPoolTest {
+
+    @Test
+    void pool() throws Exception {
+
+        SAXParserPool pool = new SAXParserPool(false, 1);
+        SAXParser parser = pool.borrow();
+        Assertions.assertNotSame(parser, pool.borrow());
+        pool.release(parser);
+        Assertions.assertEquals(1, pool.getIdle());
+        Assertions.assertSame(parser, pool.borrow());
+        Assertions.assertEquals(0, pool.getIdle());
+
+        pool.release(parser);
+        pool.release(pool.borrow());
+        pool.release(new SAXParserPool(false, 1).borrow());
+        Assertions.assertEquals(1, pool.getIdle());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SAXParserPool(false, 0));
+    }
+
+    @Test
+    void reuse() throws Exception {
+
+        SAXParserPool pool = new SAXParserPool(false, 1);
+        String doctype = "<?xml version=\"1.0\"?><!DOCTYPE root [<!ENTITY a \"a\">]><root>&a;</root>";
+        for (int i = 0; i < 3; i++) {
+            pool.parse(new ByteArrayInputStream("<root/>".getBytes(StandardCharsets.UTF_8)), new DefaultHandler());
+            // the security feature is kept after reset
+            Assertions.assertThrows(SAXException.class, () -> pool.parse(
+                    new ByteArrayInputStream(doctype.getBytes(StandardCharsets.UTF_8)), new DefaultHandler()));
+            Assertions.assertEquals(1, pool.getIdle());
+        }
+
+        Assertions.assertThrows(DocumentException.class, () -> LiDomUtil.getDOMRootByString(doctype));
+        Assertions.assertEquals("root", LiDomUtil.getDOMRootByString("<root/>").getName());
+        Assertions.assertTrue(SAXParserPool.NAMESPACE_AWARE.getIdle() > 0);
+    }
+}
@@ -0,0 +1,69 @@
+package io.leaderli.litool.dom.parser;
+
+import io.leaderli.litool.dom.RootBean;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * @author leaderli
+ * @since 2022/10/17
+ */
+class SaxBeanLoaderTest {
+
+    @Test
+    void load(@TempDir Path dir) throws IOException {
+
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            Path path = dir.resolve(i + ".xml");
+            Files.write(path, ("<root><nobean name=\"" + i + "\">" + i + "</nobean><bean name=\"b\"/></root>")
+                    .getBytes(StandardCharsets.UTF_8));
+            files.add(path.toFile());
+        }
+        Path broken = dir.resolve("broken.xml");
+        Files.write(broken, "<root><nobean></root>".getBytes(StandardCharsets.UTF_8));
+        files.add(broken.toFile());
+        Path error = dir.resolve("error.xml");
+        Files.write(error, "<root><nobean name=\"e\"/></root>".getBytes(StandardCharsets.UTF_8));
+        files.add(error.toFile());
+        files.add(dir.resolve("absent.xml").toFile());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Map<File, SaxBeanLoader.Result<RootBean>> results = new SaxBeanLoader<>(RootBean.class, executor).load(files);
+
+            Assertions.assertEquals(files, new ArrayList<>(results.keySet()));
+            for (int i = 0; i < 16; i++) {
+                SaxBeanLoader.Result<RootBean> result = results.get(files.get(i));
+                Assertions.assertTrue(result.isSuccess(), result::toString);
+                Assertions.assertEquals(String.valueOf(i), result.getBean().getNoBean().getName());
+            }
+            Assertions.assertNotNull(results.get(broken.toFile()).getError());
+            // 校验错误
+            SaxBeanLoader.Result<RootBean> result = results.get(error.toFile());
+            Assertions.assertNull(result.getError());
+            Assertions.assertFalse(result.isSuccess());
+            Assertions.assertNull(result.getBean().getNoBean());
+            Assertions.assertNotNull(results.get(dir.resolve("absent.xml").toFile()).getError());
+        } finally {
+            executor.shutdown();
+        }
+
+        Map<File, SaxBeanLoader.Result<RootBean>> results = new SaxBeanLoader<>(RootBean.class)
+                .load("", file -> file.getName().equals("bean.xml"));
+        Assertions.assertEquals(1, results.size());
+        Assertions.assertNotNull(results.values().iterator().next().getBean());
+    }
+}
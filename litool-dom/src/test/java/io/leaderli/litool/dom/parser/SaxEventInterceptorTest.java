@@ -1,5 +1,6 @@
 package io.leaderli.litool.dom.parser;
 
+import io.leaderli.litool.core.exception.RuntimeExceptionTransferException;
 import io.leaderli.litool.core.meta.Lino;
 import io.leaderli.litool.core.text.StringUtils;
 import io.leaderli.litool.core.type.ClassUtil;
@@ -10,7 +11,9 @@ import io.leaderli.litool.dom.sax.SaxBean;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -70,5 +73,37 @@ class SaxEventInterceptorTest {
         Assertions.assertSame(Color.RED, sax.color);
     }
 
+    @Test
+    void streaming() {
+
+        String xml = "<root>\n  <nobean name=\"no\">\n 12<![CDATA[3 ]]><!-- 0 -->4 \n</nobean>\n<bean name=\"b\"/></root>";
+        SaxEventInterceptor<RootBean> dfs = new SaxEventInterceptor<>(RootBean.class);
+        RootBean root = dfs.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+
+        // 多个连续 body 片段合为一起
+        Assertions.assertEquals("1234", root.getNoBean().body);
+        Assertions.assertEquals("b", root.beans.lira().first().get().getName());
+
+        Assertions.assertThrows(RuntimeExceptionTransferException.class,
+                () -> dfs.parse(new ByteArrayInputStream("<root><nobean></root>".getBytes(StandardCharsets.UTF_8))));
+    }
 
+    @Test
+    void binding() {
+
+        // 标签名和属性名不区分大小写
+        String xml = "<root><NoBean NAME=\"no\">1</NoBean><BEAN name=\"b1\"/><bean name=\"b2\"/></root>";
+        SaxEventInterceptor<RootBean> dfs = new SaxEventInterceptor<>(RootBean.class);
+        RootBean root = dfs.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+
+        Assertions.assertEquals("no", root.getNoBean().getName());
+        Assertions.assertEquals(2, root.beans.lira().size());
+
+        // 使用 set 注入属性应当是唯一的
+        xml = "<root><nobean name=\"1\">a</nobean><nobean name=\"2\">b</nobean></root>";
+        dfs = new SaxEventInterceptor<>(RootBean.class);
+        root = dfs.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertEquals("1", root.getNoBean().getName());
+        Assertions.assertTrue(dfs.getParseErrorMsgs().toString().contains("already inited"));
+    }
 }
@@ -6,6 +6,8 @@ import io.leaderli.litool.core.event.LiEventBus;
 import io.leaderli.litool.core.event.LiEventObject;
 import io.leaderli.litool.runner.instruct.IFunc;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -14,6 +16,14 @@ import java.util.Map;
  * @since 2022/8/8
  */
 public class Context {
+    /**
+     * 表示 func 的计算结果尚未缓存
+     */
+    private static final Object UNRESOLVED = new Object();
+    /**
+     * 表示返回变量的槽位尚未赋值，未赋值的返回变量不会出现在 {@link #toResponse()} 中
+     */
+    private static final Object UNASSIGNED = new Object();
     /**
      * 用于存储原始请求报文，待转换原始请求报文后，作为返回报文
      */
@@ -35,27 +45,150 @@ public class Context {
      */
     private ImmutableMap<String, IFunc> funcFactory;
     private ImmutableMap<String, Object> readonly_request;
+    /**
+     * 原始请求报文的引用，按照槽位存取时由此读取请求变量
+     */
+    private Map<String, ?> origin_request;
+    /**
+     * 变量的槽位分布，为 null 时所有变量均通过名称存取
+     */
+    private VariableLayout layout;
+    private Object[] requests;
+    private Object[] responses;
+    /**
+     * {@link io.leaderli.litool.runner.instruct.FuncScope#CONTEXT} 的 func 计算结果，按照 func 的槽位存储
+     */
+    private Object[] funcResults;
 
     public Context(Map<String, String> origin_request) {
+        this.origin_request = origin_request;
         this.origin_request_or_response.putAll(origin_request);
     }
 
+    /**
+     * 按照槽位存取变量的 context，可以通过 {@link #reset(Map)} 重复使用
+     *
+     * @param layout 变量的槽位分布
+     */
+    public Context(VariableLayout layout) {
+        this.origin_request = Collections.emptyMap();
+        bind(layout);
+    }
+
+    /**
+     * 为 context 分配变量槽位，此后请求变量和返回变量按照槽位存取，不在 layout 中的返回变量仍然存储在
+     * {@link #origin_request_or_response} 中
+     *
+     * @param layout 变量的槽位分布
+     */
+    public void bind(VariableLayout layout) {
+        this.layout = layout;
+        this.requests = new Object[layout.requestSize()];
+        this.responses = new Object[layout.responseSize()];
+        Arrays.fill(responses, UNASSIGNED);
+        this.funcResults = new Object[layout.funcSize()];
+        Arrays.fill(funcResults, UNRESOLVED);
+    }
+
+    public VariableLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * 清空上一次执行的所有状态，使用新的请求报文，已注册的监听器会被保留
+     *
+     * @param origin_request 原始请求报文
+     */
+    public void reset(Map<String, String> origin_request) {
+        this.origin_request = origin_request;
+        this.origin_request_or_response.clear();
+        this.func_result_cache.clear();
+        this.temp.reset();
+        this.interrupt.set(Interrupt.NO);
+        this.interruptObj = null;
+        this.readonly_request = null;
+        if (layout == null) {
+            this.origin_request_or_response.putAll(origin_request);
+        } else {
+            Arrays.fill(requests, null);
+            Arrays.fill(responses, UNASSIGNED);
+            Arrays.fill(funcResults, UNRESOLVED);
+        }
+    }
+
+    /**
+     * @param key 请求变量名
+     * @return 原始请求报文中的值
+     */
+    public Object getOriginRequest(String key) {
+        return origin_request.get(key);
+    }
 
     @SuppressWarnings("unchecked")
     public <T> T getRequest(String key) {
+        if (layout != null) {
+            int slot = layout.request(key);
+            return slot < 0 ? null : (T) requests[slot];
+        }
         return (T) this.readonly_request.get(key);
     }
 
+    @SuppressWarnings("unchecked")
+    public <T> T getRequest(int slot) {
+        return (T) requests[slot];
+    }
+
+    public void setRequest(int slot, Object value) {
+        requests[slot] = value;
+    }
+
     public void setResponse(String key, Object value) {
+        if (layout != null) {
+            int slot = layout.response(key);
+            if (slot > -1) {
+                responses[slot] = value;
+                return;
+            }
+        }
         this.origin_request_or_response.put(key, value);
     }
 
+    public void setResponse(int slot, Object value) {
+        responses[slot] = value;
+    }
 
     @SuppressWarnings("unchecked")
     public <T> T getResponse(String key) {
+        if (layout != null) {
+            int slot = layout.response(key);
+            if (slot > -1) {
+                return getResponse(slot);
+            }
+        }
         return (T) this.origin_request_or_response.get(key);
     }
 
+    @SuppressWarnings("unchecked")
+    public <T> T getResponse(int slot) {
+        Object value = responses[slot];
+        return value == UNASSIGNED ? null : (T) value;
+    }
+
+    /**
+     * @return 所有返回变量的拷贝
+     */
+    public Map<String, Object> toResponse() {
+        Map<String, Object> response = new HashMap<>(origin_request_or_response);
+        if (layout != null) {
+            for (int i = 0; i < responses.length; i++) {
+                if (responses[i] != UNASSIGNED) {
+                    response.put(layout.responseName(i), responses[i]);
+                }
+            }
+        }
+        return response;
+    }
+
     public void setReadonly_request(ImmutableMap<String, Object> readonly_request) {
         this.readonly_request = readonly_request;
     }
@@ -73,6 +206,11 @@ public class Context {
         return (T) funcFactory.get(key).apply(this);
     }
 
+    @SuppressWarnings("unchecked")
+    public <T> T getFuncResult(int slot) {
+        return (T) layout.func(slot).apply(this);
+    }
+
     public void setFuncResultCache(String key, Object value) {
         this.func_result_cache.put(key, value);
     }
@@ -82,14 +220,36 @@ public class Context {
         return (T) func_result_cache.get(key);
     }
 
+    public boolean containsFuncResultCache(int slot) {
+        return funcResults[slot] != UNRESOLVED;
+    }
+
+    public void setFuncResultCache(int slot, Object value) {
+        this.funcResults[slot] = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T getFuncResultCache(int slot) {
+        Object funcResult = funcResults[slot];
+        return funcResult == UNRESOLVED ? null : (T) funcResult;
+    }
+
     public void setTemp(String key, Object value) {
         this.temp.put(key, value);
     }
 
+    public void setTemp(TempNameEnum key, Object value) {
+        this.temp.put(key, value);
+    }
+
     public <T> T getTemp(String key) {
         return temp.get(key);
     }
 
+    public <T> T getTemp(int slot) {
+        return temp.get(slot);
+    }
+
     public Object getExpressionValue(Expression expression) {
         return expression.apply(this);
     }
@@ -1,31 +1,49 @@
 package io.leaderli.litool.runner;
 
-import java.util.EnumMap;
-import java.util.Map;
-
 /**
+ * 临时变量按照 {@link TempNameEnum#ordinal()} 存储在数组中
+ *
  * @author leaderli
  * @since 2022/8/11
  */
 public class TempContainer {
 
+    private static final TempNameEnum[] TEMPS = TempNameEnum.values();
 
-    private final Map<TempNameEnum, Object> tempMap = new EnumMap<>(TempNameEnum.class);
+    private final Object[] temps = new Object[TEMPS.length];
 
     public TempContainer() {
+        reset();
+    }
 
-        for (TempNameEnum temp : TempNameEnum.values()) {
-            tempMap.put(temp, temp.def);
+    /**
+     * 将所有临时变量恢复为默认值
+     */
+    public void reset() {
+        for (TempNameEnum temp : TEMPS) {
+            temps[temp.ordinal()] = temp.def;
         }
     }
 
     public void put(String key, Object value) {
-        tempMap.put(TempNameEnum.valueOf(key), value);
+        put(TempNameEnum.valueOf(key), value);
+    }
+
+    public void put(TempNameEnum key, Object value) {
+        temps[key.ordinal()] = value;
     }
 
-    @SuppressWarnings("unchecked")
     public <T> T get(String key) {
-        return (T) tempMap.get(TempNameEnum.valueOf(key));
+        return get(TempNameEnum.valueOf(key));
+    }
+
+    public <T> T get(TempNameEnum key) {
+        return get(key.ordinal());
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(int slot) {
+        return (T) temps[slot];
     }
 
 }
@@ -0,0 +1,109 @@
+package io.leaderli.litool.runner;
+
+import io.leaderli.litool.runner.constant.VariablesModel;
+import io.leaderli.litool.runner.instruct.IFunc;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 脚本加载时为每个请求变量、返回变量、临时变量以及 func 分配的槽位，按照槽位存取的 {@link Context} 不再需要通过名称查找变量
+ * <ul>
+ *     <li>请求变量、返回变量按照声明的顺序分配槽位</li>
+ *     <li>临时变量的槽位为 {@link TempNameEnum#ordinal()}</li>
+ *     <li>func 按照声明的顺序分配槽位</li>
+ * </ul>
+ *
+ * @see Context#Context(VariableLayout)
+ * @see VariablesModel#load(Context, int)
+ */
+public class VariableLayout {
+
+    private static final Map<String, Integer> TEMP_SLOTS = new HashMap<>();
+
+    static {
+        for (TempNameEnum temp : TempNameEnum.values()) {
+            TEMP_SLOTS.put(temp.name(), temp.ordinal());
+        }
+    }
+
+    private final Map<String, Integer> requestSlots;
+    private final Map<String, Integer> responseSlots;
+    private final Map<String, Integer> funcSlots;
+    private final String[] responseNames;
+    private final IFunc[] funcs;
+
+    public VariableLayout(List<String> requestNames, List<String> responseNames, List<IFunc> funcs) {
+        this.requestSlots = slots(requestNames);
+        this.responseSlots = slots(responseNames);
+        this.responseNames = new String[responseSlots.size()];
+        responseSlots.forEach((name, slot) -> this.responseNames[slot] = name);
+        this.funcs = funcs.toArray(new IFunc[0]);
+        this.funcSlots = new HashMap<>();
+        for (int i = 0; i < this.funcs.length; i++) {
+            funcSlots.put(this.funcs[i].name, i);
+        }
+    }
+
+    private static Map<String, Integer> slots(List<String> names) {
+        Map<String, Integer> slots = new HashMap<>();
+        for (String name : names) {
+            slots.putIfAbsent(name, slots.size());
+        }
+        return slots;
+    }
+
+    private static int slot(Map<String, Integer> slots, String name) {
+        Integer slot = slots.get(name);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * @param model 变量类型
+     * @param name  变量名
+     * @return 变量的槽位，变量不存在或者变量类型没有槽位时返回 -1
+     */
+    public int slot(VariablesModel model, String name) {
+        switch (model) {
+            case REQUEST:
+                return request(name);
+            case RESPONSE:
+                return response(name);
+            case TEMP:
+                return slot(TEMP_SLOTS, name);
+            case FUNC:
+                return slot(funcSlots, name);
+            default:
+                return -1;
+        }
+    }
+
+    public int request(String name) {
+        return slot(requestSlots, name);
+    }
+
+    public int response(String name) {
+        return slot(responseSlots, name);
+    }
+
+    public int requestSize() {
+        return requestSlots.size();
+    }
+
+    public int responseSize() {
+        return responseNames.length;
+    }
+
+    public String responseName(int slot) {
+        return responseNames[slot];
+    }
+
+    public IFunc func(int slot) {
+        return funcs[slot];
+    }
+
+    public int funcSize() {
+        return funcs.length;
+    }
+}
@@ -62,5 +62,10 @@ public enum OperatorEnum {
 
     }
 
+    public final boolean apply(int left, int right) {
+
+        return apply(Integer.compare(left, right));
+    }
+
     public abstract boolean apply(int compare);
 }
@@ -24,24 +24,44 @@ public enum VariablesModel implements BiFunction<Context, Object, Object> {
         public Object apply(Context context, Object name) {
             return context.getRequest((String) name);
         }
+
+        @Override
+        public Object load(Context context, int slot) {
+            return context.getRequest(slot);
+        }
     },
     RESPONSE(3, FuncScope.RUNTIME) {
         @Override
         public Object apply(Context context, Object name) {
             return context.getResponse((String) name);
         }
+
+        @Override
+        public Object load(Context context, int slot) {
+            return context.getResponse(slot);
+        }
     },
     TEMP(4, FuncScope.RUNTIME) {
         @Override
         public Object apply(Context context, Object name) {
             return context.getTemp((String) name);
         }
+
+        @Override
+        public Object load(Context context, int slot) {
+            return context.getTemp(slot);
+        }
     },
     FUNC(5, FuncScope.RUNTIME) {
         @Override
         public Object apply(Context context, Object name) {
             return context.getFuncResult((String) name);
         }
+
+        @Override
+        public Object load(Context context, int slot) {
+            return context.getFuncResult(slot);
+        }
     };
 
     public final int type;
@@ -61,6 +81,18 @@ public enum VariablesModel implements BiFunction<Context, Object, Object> {
         return LITERAL;
     }
 
+    /**
+     * 按照槽位读取变量，context 需要绑定 {@link io.leaderli.litool.runner.VariableLayout}
+     *
+     * @param context 上下文
+     * @param slot    变量的槽位
+     * @return 变量值
+     * @see io.leaderli.litool.runner.VariableLayout#slot(VariablesModel, String)
+     */
+    public Object load(Context context, int slot) {
+        throw new UnsupportedOperationException(this + " VariablesModel has no slot");
+    }
+
     public boolean matchAny(VariablesModel... models) {
         for (VariablesModel model : models) {
             if (this == model) {
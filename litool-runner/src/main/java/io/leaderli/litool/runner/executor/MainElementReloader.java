@@ -0,0 +1,387 @@
+package io.leaderli.litool.runner.executor;
+
+import io.leaderli.litool.core.meta.Lino;
+import io.leaderli.litool.dom.parser.SaxBeanLoader;
+import io.leaderli.litool.dom.parser.SaxEventInterceptor;
+import io.leaderli.litool.runner.xml.MainElement;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * 监听目录下的 runner 脚本，文件变更时只重新解析变更的文件，校验通过后原子地替换对应的 {@link MainElementExecutor}。
+ * 正在执行的 {@link io.leaderli.litool.runner.Context} 持有旧的 executor，会在旧版本上执行完成
+ * <p>
+ * 内容的 crc32 未变化时不会重新解析，解析失败或校验不通过时保留旧版本，并记录错误信息
+ *
+ * @author leaderli
+ * @since 2022/10/17
+ */
+public class MainElementReloader implements AutoCloseable {
+
+    private static final String SUFFIX = ".xml";
+
+    private final Path dir;
+    private final Map<String, Script> scripts = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> errors = new ConcurrentHashMap<>();
+    private final Map<WatchKey, Path> watchDirs = new ConcurrentHashMap<>();
+    private final Metrics metrics = new Metrics();
+    private WatchService watchService;
+    private Thread watcher;
+
+    /**
+     * @param dir runner 脚本所在的目录，包含子目录
+     */
+    public MainElementReloader(Path dir) {
+        this.dir = dir.toAbsolutePath().normalize();
+    }
+
+    /**
+     * 并发加载目录下所有的脚本，然后在后台线程中监听文件变更
+     *
+     * @return this
+     * @throws UncheckedIOException 如果无法监听目录
+     */
+    public synchronized MainElementReloader start() {
+
+        if (watchService != null) {
+            return this;
+        }
+        boolean started = false;
+        try {
+            // 先监听再加载，避免遗漏加载期间的变更
+            WatchService service = FileSystems.getDefault().newWatchService();
+            watchService = service;
+            List<File> files = new ArrayList<>();
+            Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path path, BasicFileAttributes attrs) throws IOException {
+                    register(service, path);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path path, BasicFileAttributes attrs) {
+                    if (isScript(path)) {
+                        files.add(path.toFile());
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            // 先计算 crc32 再解析，加载期间变更的文件其 crc32 不一致，会被重新加载
+            Map<File, Long> checksums = new HashMap<>();
+            for (File file : files) {
+                checksums.put(file, checksum(Files.readAllBytes(file.toPath())));
+            }
+            new SaxBeanLoader<>(MainElement.class).load(files).forEach((file, result) -> {
+                if (result.isSuccess()) {
+                    swap(name(file.toPath()), checksums.get(file), result.getBean());
+                } else {
+                    fail(name(file.toPath()), result.getError(), result.getParseErrorMsgs());
+                }
+            });
+
+            watcher = new Thread(() -> watch(service), "litool-runner-reloader");
+            watcher.setDaemon(true);
+            watcher.start();
+            started = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (!started) {
+                // 任何异常都会释放已注册的监听，允许重新 start
+                close();
+            }
+        }
+        return this;
+    }
+
+    private void register(WatchService service, Path path) throws IOException {
+        WatchKey key = path.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        watchDirs.put(key, path);
+    }
+
+    private void watch(WatchService service) {
+
+        while (true) {
+            WatchKey key;
+            try {
+                key = service.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException e) {
+                return;
+            }
+            Path parent = watchDirs.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (parent == null || event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    // 事件丢失时重新检查所有脚本，未变化的脚本不会重新解析
+                    reloadAll();
+                    continue;
+                }
+                Path path = parent.resolve((Path) event.context());
+                try {
+                    if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                        register(service, path);
+                        reloadAll();
+                    } else if (isScript(path)) {
+                        reload(path);
+                    } else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                        removeDir(name(path) + "/");
+                    }
+                } catch (IOException | RuntimeException e) {
+                    fail(name(path), e, Collections.emptyList());
+                }
+            }
+            if (!key.reset()) {
+                watchDirs.remove(key);
+            }
+        }
+    }
+
+    private void reloadAll() {
+        try {
+            Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path path, BasicFileAttributes attrs) {
+                    if (isScript(path)) {
+                        reload(path);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            fail("", e, Collections.emptyList());
+        }
+    }
+
+    private synchronized void removeDir(String prefix) {
+        for (String name : new ArrayList<>(scripts.keySet())) {
+            if (name.startsWith(prefix)) {
+                scripts.remove(name);
+                errors.remove(name);
+                metrics.removed.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 重新加载脚本，文件不存在时移除对应的 executor
+     *
+     * @param path 脚本文件
+     * @return 是否替换了 executor
+     */
+    public synchronized boolean reload(Path path) {
+
+        path = path.toAbsolutePath().normalize();
+        String name = name(path);
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(path);
+        } catch (NoSuchFileException e) {
+            if (scripts.remove(name) != null) {
+                metrics.removed.incrementAndGet();
+            }
+            errors.remove(name);
+            return false;
+        } catch (IOException e) {
+            fail(name, e, Collections.emptyList());
+            return false;
+        }
+
+        long checksum = checksum(bytes);
+        Script old = scripts.get(name);
+        if (old != null && old.checksum == checksum) {
+            // 内容恢复为已加载的版本，之前的错误已不再适用
+            errors.remove(name);
+            metrics.unchanged.incrementAndGet();
+            return false;
+        }
+
+        long begin = System.nanoTime();
+        SaxEventInterceptor<MainElement> interceptor = new SaxEventInterceptor<>(MainElement.class);
+        MainElement element;
+        try {
+            element = interceptor.parse(new ByteArrayInputStream(bytes));
+        } catch (RuntimeException e) {
+            fail(name, e, interceptor.getParseErrorMsgs());
+            return false;
+        }
+        if (!interceptor.getParseErrorMsgs().isEmpty()) {
+            fail(name, null, interceptor.getParseErrorMsgs());
+            return false;
+        }
+        swap(name, checksum, element);
+        metrics.reloadNanos.addAndGet(System.nanoTime() - begin);
+        return true;
+    }
+
+    private void swap(String name, long checksum, MainElement element) {
+        scripts.put(name, new Script(new MainElementExecutor(element), checksum));
+        errors.remove(name);
+        metrics.reloaded.incrementAndGet();
+    }
+
+    private void fail(String name, Throwable error, List<String> parseErrorMsgs) {
+        List<String> msgs = new ArrayList<>(parseErrorMsgs);
+        if (error != null) {
+            msgs.add(String.valueOf(error));
+        }
+        errors.put(name, Collections.unmodifiableList(msgs));
+        metrics.failed.incrementAndGet();
+    }
+
+    private static boolean isScript(Path path) {
+        return path.getFileName().toString().endsWith(SUFFIX) && !Files.isDirectory(path);
+    }
+
+    private static long checksum(byte[] bytes) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(bytes, 0, bytes.length);
+        return crc32.getValue();
+    }
+
+    private String name(Path path) {
+        return dir.relativize(path.toAbsolutePath().normalize()).toString().replace(File.separatorChar, '/');
+    }
+
+    /**
+     * @param name 脚本相对于目录的路径，以 / 分隔，例如 {@code router/main.xml}
+     * @return 当前版本的 executor，执行时应当先获取 executor 再执行，以保证一次执行使用同一个版本
+     */
+    public Lino<MainElementExecutor> get(String name) {
+        return Lino.of(scripts.get(name)).map(script -> script.executor);
+    }
+
+    /**
+     * @return 所有脚本的 crc32
+     */
+    public Map<String, Long> checksums() {
+        Map<String, Long> checksums = new HashMap<>();
+        scripts.forEach((name, script) -> checksums.put(name, script.checksum));
+        return checksums;
+    }
+
+    /**
+     * @return 最近一次加载失败的脚本及其错误信息，加载成功后会被移除
+     */
+    public Map<String, List<String>> errors() {
+        return Collections.unmodifiableMap(errors);
+    }
+
+    public Metrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * 停止监听，已加载的 executor 仍然可用，之后可以再次 {@link #start()}
+     */
+    @Override
+    public synchronized void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignore) {
+                // closed
+            }
+            watchService = null;
+        }
+        if (watcher != null) {
+            watcher.interrupt();
+            watcher = null;
+        }
+        watchDirs.clear();
+    }
+
+    private static class Script {
+        private final MainElementExecutor executor;
+        private final long checksum;
+
+        private Script(MainElementExecutor executor, long checksum) {
+            this.executor = executor;
+            this.checksum = checksum;
+        }
+    }
+
+    /**
+     * 加载的统计信息
+     */
+    public static class Metrics {
+
+        private final AtomicLong reloaded = new AtomicLong();
+        private final AtomicLong unchanged = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong removed = new AtomicLong();
+        private final AtomicLong reloadNanos = new AtomicLong();
+
+        /**
+         * @return 成功加载的次数，包括首次加载
+         */
+        public long getReloaded() {
+            return reloaded.get();
+        }
+
+        /**
+         * @return 因 crc32 未变化而跳过的次数
+         */
+        public long getUnchanged() {
+            return unchanged.get();
+        }
+
+        /**
+         * @return 加载失败的次数
+         */
+        public long getFailed() {
+            return failed.get();
+        }
+
+        /**
+         * @return 因文件删除而移除的次数
+         */
+        public long getRemoved() {
+            return removed.get();
+        }
+
+        /**
+         * @return 重新加载时解析和校验的总耗时，不包括首次加载
+         */
+        public long getReloadNanos() {
+            return reloadNanos.get();
+        }
+
+        @Override
+        public String toString() {
+            return "Metrics{" +
+                    "reloaded=" + reloaded +
+                    ", unchanged=" + unchanged +
+                    ", failed=" + failed +
+                    ", removed=" + removed +
+                    ", reloadNanos=" + reloadNanos +
+                    '}';
+        }
+    }
+}
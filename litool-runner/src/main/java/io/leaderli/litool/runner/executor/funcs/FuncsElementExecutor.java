@@ -11,6 +11,7 @@ import io.leaderli.litool.runner.xml.funcs.FuncElement;
 import io.leaderli.litool.runner.xml.funcs.FuncsElement;
 import io.leaderli.litool.runner.xml.funcs.ParamElement;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,6 +20,7 @@ import java.util.Map;
  */
 public class FuncsElementExecutor extends BaseElementExecutor<FuncsElement> {
     private final Map<String, IFunc> funcFactory = new HashMap<>();
+    private ImmutableMap<String, IFunc> readonlyFuncFactory;
 
     public FuncsElementExecutor(FuncsElement element) {
         super(element);
@@ -54,15 +56,44 @@ public class FuncsElementExecutor extends BaseElementExecutor<FuncsElement> {
             }
 
 
-            IFunc iFunc = new IFunc(funcElement, scope);
+            IFunc iFunc = new IFunc(funcElement, scope, funcFactory.size());
             funcFactory.put(name, iFunc);
         }
+        readonlyFuncFactory = ImmutableMap.of(funcFactory);
+        resolveConstant();
+    }
+
+    /**
+     * 提前计算所有 {@link FuncScope#CONSTANT} 的 func，其参数仅为字面量或者其他常量 func，因此无需请求报文。
+     * 计算失败的 func 保留到实际调用时再计算，以便错误在执行时抛出
+     */
+    @SuppressWarnings("java:S1181")
+    private void resolveConstant() {
+        Context context = new Context(Collections.emptyMap());
+        context.setFuncFactory(readonlyFuncFactory);
+        for (FuncElement funcElement : element.funcList.lira()) {
+            IFunc iFunc = funcFactory.get(funcElement.getName());
+            if (iFunc.funcScope == FuncScope.CONSTANT) {
+                try {
+                    iFunc.apply(context);
+                } catch (Throwable ignore) {
+                    // 执行时再次计算
+                }
+            }
+        }
     }
 
     @Override
     public void execute(Context context) {
 
-        context.setFuncFactory(ImmutableMap.of(funcFactory));
+        context.setFuncFactory(readonlyFuncFactory);
+    }
+
+    /**
+     * @return 所有 func 的只读视图，初始化后不再变化，可在多个 context 间共享
+     */
+    public ImmutableMap<String, IFunc> getFuncFactory() {
+        return readonlyFuncFactory;
     }
 
 }
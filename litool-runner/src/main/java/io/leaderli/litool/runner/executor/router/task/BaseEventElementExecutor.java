@@ -3,25 +3,38 @@ package io.leaderli.litool.runner.executor.router.task;
 import io.leaderli.litool.core.event.LiEventObject;
 import io.leaderli.litool.core.text.StrSubstitution;
 import io.leaderli.litool.runner.Context;
+import io.leaderli.litool.runner.Expression;
 import io.leaderli.litool.runner.executor.BaseElementExecutor;
 import io.leaderli.litool.runner.util.ExpressionUtil;
 import io.leaderli.litool.runner.xml.router.task.BaseEventElement;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * @author leaderli
  * @since 2022/8/14
  */
 public abstract class BaseEventElementExecutor<B extends BaseEventElement<B, ?, E>, E extends LiEventObject<?>> extends BaseElementExecutor<B> {
+    private final StrSubstitution.Template template;
+    /**
+     * the expression of each placeholder of {@link #template}
+     */
+    private final Map<String, Expression> expressions = new HashMap<>();
+
     protected BaseEventElementExecutor(B element) {
         super(element);
+        this.template = StrSubstitution.compile(element.getLongExpression().getExpr());
+        for (String variable : template.variables()) {
+            expressions.put(variable, ExpressionUtil.getExpression(variable));
+        }
     }
 
     @Override
     public final void execute(Context context) {
 
 
-        String message = StrSubstitution.format(element.getLongExpression().getExpr()
-                , expr -> ExpressionUtil.getExpression(expr).apply(context) + "");
+        String message = template.format(expr -> expressions.get(expr).apply(context) + "");
         LiEventObject<?> e = newEvent(message);
         context.publishEvent(e);
 
@@ -46,6 +46,6 @@ public class CoordinateElementExecutor extends BaseElementExecutor<CoordinateEle
     public void execute(Context context) {
         String x = (String) context.getExpressionValue(element.getX());
         String y = (String) context.getExpressionValue(element.getY());
-        context.setTemp(TempNameEnum.coordinate.name(), Lino.of(coordinateMap.get(y)).map(m -> m.get(x)).get(def));
+        context.setTemp(TempNameEnum.coordinate, Lino.of(coordinateMap.get(y)).map(m -> m.get(x)).get(def));
     }
 }
@@ -1,9 +1,9 @@
 package io.leaderli.litool.runner.instruct;
 
 import io.leaderli.litool.runner.constant.OperatorEnum;
+import io.leaderli.litool.runner.util.DateTimeUtil;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 
 public class AgeCompareInstruct implements Instruct {
     @Override
@@ -24,8 +24,7 @@ public class AgeCompareInstruct implements Instruct {
                     name()));
         }
 
-        DateTimeFormatter yyyyMMdd = DateTimeFormatter.ofPattern("yyyyMMdd");
-        LocalDate date = LocalDate.parse(birthday, yyyyMMdd);
+        LocalDate date = DateTimeUtil.parseDate(birthday);
         LocalDate now = LocalDate.now();
 
         return !op.apply(date, now.minusYears(year_int));
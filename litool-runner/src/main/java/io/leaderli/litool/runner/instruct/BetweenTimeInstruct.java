@@ -1,9 +1,7 @@
 package io.leaderli.litool.runner.instruct;
 
 import io.leaderli.litool.runner.constant.OperatorEnum;
-
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import io.leaderli.litool.runner.util.DateTimeUtil;
 
 public class BetweenTimeInstruct implements Instruct {
 
@@ -14,13 +12,11 @@ public class BetweenTimeInstruct implements Instruct {
     }
 
     public Boolean invoke(String left, String right, String now) {
-        DateTimeFormatter HHmm = DateTimeFormatter.ofPattern("HHmm");
-
-        LocalTime leftTime = LocalTime.parse(left, HHmm);
-        LocalTime rightTime = LocalTime.parse(right, HHmm);
-        LocalTime nowTime = LocalTime.parse(now, HHmm);
+        int leftTime = DateTimeUtil.parseMinutes(left);
+        int rightTime = DateTimeUtil.parseMinutes(right);
+        int nowTime = DateTimeUtil.parseMinutes(now);
 
-        if (leftTime.compareTo(rightTime) < 0) {
+        if (leftTime < rightTime) {
             return OperatorEnum.GREATER_THAN.apply(nowTime, leftTime) && OperatorEnum.LESS_THAN.apply(nowTime,
                     rightTime);
         } else {
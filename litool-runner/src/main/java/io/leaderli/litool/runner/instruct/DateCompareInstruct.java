@@ -1,9 +1,7 @@
 package io.leaderli.litool.runner.instruct;
 
 import io.leaderli.litool.runner.constant.OperatorEnum;
-
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import io.leaderli.litool.runner.util.DateTimeUtil;
 
 public class DateCompareInstruct implements Instruct {
 
@@ -18,11 +16,7 @@ public class DateCompareInstruct implements Instruct {
                             "[%s]",
                     left, right, name()));
         }
-        DateTimeFormatter yyyyMMdd = DateTimeFormatter.ofPattern("yyyyMMdd");
-        LocalDate leftDate = LocalDate.parse(left, yyyyMMdd);
-        LocalDate rightDate = LocalDate.parse(right, yyyyMMdd);
-
-        return op.apply(leftDate, rightDate);
+        return op.apply(DateTimeUtil.parseDateValue(left), DateTimeUtil.parseDateValue(right));
     }
 
     @Override
@@ -1,9 +1,9 @@
 package io.leaderli.litool.runner.instruct;
 
 import io.leaderli.litool.runner.constant.DateUnitEnum;
+import io.leaderli.litool.runner.util.DateTimeUtil;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 
 public class DateGetInstruct implements Instruct {
 
@@ -18,8 +18,7 @@ public class DateGetInstruct implements Instruct {
                     dateStr
                     , name()));
         }
-        DateTimeFormatter yyyyMMdd = DateTimeFormatter.ofPattern("yyyyMMdd");
-        LocalDate date = LocalDate.parse(dateStr, yyyyMMdd);
+        LocalDate date = DateTimeUtil.parseDate(dateStr);
 
         return unit.get(date);
     }
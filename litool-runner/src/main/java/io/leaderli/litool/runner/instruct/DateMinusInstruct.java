@@ -1,9 +1,9 @@
 package io.leaderli.litool.runner.instruct;
 
 import io.leaderli.litool.runner.constant.DateUnitEnum;
+import io.leaderli.litool.runner.util.DateTimeUtil;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 
 public class DateMinusInstruct implements Instruct {
 
@@ -18,12 +18,9 @@ public class DateMinusInstruct implements Instruct {
                     dateStr
                     , name()));
         }
-        DateTimeFormatter yyyyMMdd = DateTimeFormatter.ofPattern("yyyyMMdd");
-        LocalDate date = LocalDate.parse(dateStr, yyyyMMdd);
-
+        LocalDate date = DateTimeUtil.parseDate(dateStr);
         LocalDate plusResult = unit.minus(date, gap);
-
-        return plusResult.format(yyyyMMdd);
+        return DateTimeUtil.formatDate(plusResult);
     }
 
     @Override
@@ -1,58 +1,88 @@
 package io.leaderli.litool.runner.instruct;
 
 import io.leaderli.litool.runner.Context;
-import io.leaderli.litool.runner.Expression;
-import io.leaderli.litool.runner.TypeAlias;
-import io.leaderli.litool.runner.constant.VariablesModel;
 import io.leaderli.litool.runner.xml.funcs.FuncElement;
 
 public class IFunc {
 
+    /**
+     * 表示 {@link #cache} 尚未计算，用于区分计算结果为 null 的情况
+     */
+    private static final Object UNRESOLVED = new Object();
+
     public final String name;
     public final FuncElement funcElement;
     public final FuncScope funcScope;
-    private Object cache;
+    /**
+     * func 在所属 funcs 中的序号，也是其计算结果在 context 中的槽位
+     *
+     * @see io.leaderli.litool.runner.VariableLayout
+     */
+    public final int slot;
+    /**
+     * {@link FuncScope#CONSTANT} 的计算结果，所有 context 共享
+     */
+    private volatile Object cache = UNRESOLVED;
+    /**
+     * 预解析字面量参数并绑定 invoke 方法的调用
+     */
+    private final InstructInvoker invoker;
 
     public IFunc(FuncElement funcElement, FuncScope funcScope) {
+        this(funcElement, funcScope, -1);
+    }
+
+    public IFunc(FuncElement funcElement, FuncScope funcScope, int slot) {
         this.name = funcElement.getName();
         this.funcElement = funcElement;
         this.funcScope = funcScope;
+        this.slot = slot;
+        this.invoker = InstructInvoker.of(funcElement);
     }
 
     public Object apply(Context context) {
         switch (funcScope) {
             case CONTEXT:
-                Object funcResult = context.getFuncResultCache(name);
-                if (funcResult == null) {
-                    funcResult = directInvoke(context);
-                    context.setFuncResultCache(name, funcResult);
+                if (slot > -1 && context.getLayout() != null) {
+                    if (context.containsFuncResultCache(slot)) {
+                        return context.getFuncResultCache(slot);
+                    }
+                    Object funcResult = directInvoke(context);
+                    context.setFuncResultCache(slot, funcResult);
+                    return funcResult;
+                }
+                if (context.func_result_cache.containsKey(name)) {
+                    return context.getFuncResultCache(name);
                 }
+                Object funcResult = directInvoke(context);
+                context.setFuncResultCache(name, funcResult);
                 return funcResult;
             case CONSTANT:
-                if (cache == null) {
-                    cache = directInvoke(context);
+                Object constant = cache;
+                if (constant == UNRESOLVED) {
+                    synchronized (this) {
+                        constant = cache;
+                        if (constant == UNRESOLVED) {
+                            constant = directInvoke(context);
+                            cache = constant;
+                        }
+                    }
                 }
-                return cache;
+                return constant;
             default:
                 return directInvoke(context);
         }
     }
 
-    public Object directInvoke(Context context) {
-        Object[] params = funcElement.getParams()
-                .lira()
-                .map(param -> {
-                    Expression expression = param.getExpression();
-                    Object result = expression.apply(context);
-
-                    if (expression.getModel() == VariablesModel.LITERAL) {
-                        return TypeAlias.parser(param.getType(), (String) result);
-                    }
-                    return result;
+    /**
+     * @return {@link FuncScope#CONSTANT} 的计算结果是否已经缓存
+     */
+    public boolean resolved() {
+        return cache != UNRESOLVED;
+    }
 
-                })
-                .toArray();
-        return funcElement.getInstruct().apply(TypeAlias.getType(funcElement.getType()), params);
+    public Object directInvoke(Context context) {
+        return invoker.invoke(context);
     }
 
     public FuncScope getFuncScope() {
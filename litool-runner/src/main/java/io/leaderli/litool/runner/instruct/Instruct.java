@@ -7,6 +7,7 @@ import io.leaderli.litool.runner.TypeAlias;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Comparator;
 
 /**
  * @author leaderli
@@ -20,14 +21,15 @@ public interface Instruct {
     /**
      * invoke 方法的参数和返回值都要是解析器支持的类型
      *
-     * @return 返回 invoke 方法
+     * @return 返回 invoke 方法，按照方法签名排序，不依赖 {@link Class#getMethods()} 的顺序
      * @see TypeAlias#support(Class)
      */
     default Lira<Method> getInstructMethod() {
         Class<? extends Instruct> cls = getClass();
         Lira<Method> methods = ReflectUtil.getMethods(cls)
                 .filter(f -> f.getDeclaringClass() == cls)
-                .filter(f -> INVOKE_METHOD_NAME.equals(f.getName()));
+                .filter(f -> INVOKE_METHOD_NAME.equals(f.getName()))
+                .sorted(Comparator.comparing(Method::toString));
 
         LiAssertUtil.assertTrue(methods.present(), getClass() + " don't have invoke method");
 
@@ -0,0 +1,166 @@
+package io.leaderli.litool.runner.instruct;
+
+import io.leaderli.litool.core.meta.ra.LiraRuntimeException;
+import io.leaderli.litool.runner.Context;
+import io.leaderli.litool.runner.Expression;
+import io.leaderli.litool.runner.TypeAlias;
+import io.leaderli.litool.runner.constant.VariablesModel;
+import io.leaderli.litool.runner.xml.funcs.FuncElement;
+import io.leaderli.litool.runner.xml.funcs.ParamElement;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * func 的预编译调用，在加载时完成：
+ * <ul>
+ *     <li>字面量参数按照参数类型提前解析</li>
+ *     <li>根据返回值类型和参数类型找到 {@link Instruct} 对应的 invoke 方法，并绑定为固定参数个数的 {@link MethodHandle}</li>
+ * </ul>
+ * 找不到可以直接调用的 invoke 方法，或者参数中存在 null 时，退化为 {@link Instruct#apply(Class, Object[])}，
+ * 与之前一致，取值为 null 或者取值时抛出异常的参数不会传递给 apply
+ *
+ * @author leaderli
+ * @since 2022/8/16
+ */
+public final class InstructInvoker {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final FuncElement funcElement;
+    private final Function<Context, Object>[] params;
+    private final MethodHandle handle;
+
+    private InstructInvoker(FuncElement funcElement, Function<Context, Object>[] params, MethodHandle handle) {
+        this.funcElement = funcElement;
+        this.params = params;
+        this.handle = handle;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static InstructInvoker of(FuncElement funcElement) {
+        List<ParamElement> paramElements = funcElement.getParams().lira().get();
+        Function<Context, Object>[] params = new Function[paramElements.size()];
+        Class<?>[] paramTypes = new Class[paramElements.size()];
+        for (int i = 0; i < params.length; i++) {
+            ParamElement param = paramElements.get(i);
+            params[i] = accessor(param);
+            paramTypes[i] = TypeAlias.getType(param.getType());
+        }
+        return new InstructInvoker(funcElement, params, bind(funcElement, paramTypes));
+    }
+
+    private static Function<Context, Object> accessor(ParamElement param) {
+        Expression expression = param.getExpression();
+        if (expression.getModel() != VariablesModel.LITERAL) {
+            return expression::apply;
+        }
+        Object literal;
+        try {
+            literal = TypeAlias.parser(param.getType(), expression.getName());
+        } catch (Throwable ignore) {
+            // 无法解析的字面量保留在调用时解析，与 Lira#map 一致，解析失败时视为 null
+            return context -> TypeAlias.parser(param.getType(), expression.getName());
+        }
+        return context -> literal;
+    }
+
+    private static MethodHandle bind(FuncElement funcElement, Class<?>[] paramTypes) {
+        Instruct instruct = funcElement.getInstruct();
+        if (instruct == null) {
+            return null;
+        }
+        Class<?> returnType = TypeAlias.getType(funcElement.getType());
+        for (Method method : instruct.getInstructMethod()) {
+            if (method.getReturnType() != returnType || !match(method.getParameterTypes(), paramTypes)) {
+                continue;
+            }
+            try {
+                MethodHandle handle = MethodHandles.publicLookup().unreflect(method).asFixedArity().bindTo(instruct);
+                Class<?>[] methodParameterTypes = method.getParameterTypes();
+                int fixed = methodParameterTypes.length;
+                // 最后一位为数组参数时，将其平铺成与标签 param 数量相同的参数
+                if (fixed > 0 && methodParameterTypes[fixed - 1].isArray()) {
+                    fixed--;
+                    handle = handle.asCollector(methodParameterTypes[fixed], paramTypes.length - fixed);
+                }
+                return handle.asSpreader(Object[].class, paramTypes.length).asType(INVOKER_TYPE);
+            } catch (IllegalAccessException ignore) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static boolean match(Class<?>[] methodParameterTypes, Class<?>[] paramTypes) {
+        int length = methodParameterTypes.length;
+        if (length > 0 && methodParameterTypes[length - 1].isArray()) {
+            if (paramTypes.length < length - 1) {
+                return false;
+            }
+            Class<?> componentType = methodParameterTypes[length - 1].getComponentType();
+            for (int i = length - 1; i < paramTypes.length; i++) {
+                if (paramTypes[i] != componentType) {
+                    return false;
+                }
+            }
+            length--;
+        } else if (length != paramTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (methodParameterTypes[i] != paramTypes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 与 Lira#map 一致，取值时的异常视为 null
+     */
+    @SuppressWarnings("java:S1181")
+    private static Object arg(Function<Context, Object> param, Context context) {
+        try {
+            return param.apply(context);
+        } catch (LiraRuntimeException e) {
+            throw e;
+        } catch (Throwable throwable) {
+            return null;
+        }
+    }
+
+    /**
+     * @return 是否绑定到了 invoke 方法
+     */
+    public boolean bound() {
+        return handle != null;
+    }
+
+    public Object invoke(Context context) {
+        Object[] args = new Object[params.length];
+        int present = 0;
+        for (int i = 0; i < args.length; i++) {
+            Object arg = arg(params[i], context);
+            if (arg != null) {
+                args[present++] = arg;
+            }
+        }
+        if (handle == null || present < args.length) {
+            return funcElement.getInstruct().apply(TypeAlias.getType(funcElement.getType()),
+                    present < args.length ? Arrays.copyOf(args, present) : args);
+        }
+        try {
+            return (Object) handle.invokeExact(args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+}
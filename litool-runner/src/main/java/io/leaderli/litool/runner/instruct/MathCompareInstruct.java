@@ -19,10 +19,10 @@ public class MathCompareInstruct implements Instruct {
     }
 
     public Boolean invoke(OperatorEnum op, Integer left, Integer right) {
-        throw new UnsupportedOperationException();
+        return invokeNumber(op, left, right);
     }
 
     public Boolean invoke(OperatorEnum op, Double left, Double right) {
-        throw new UnsupportedOperationException();
+        return invokeNumber(op, left, right);
     }
 }
@@ -1,9 +1,7 @@
 package io.leaderli.litool.runner.instruct;
 
 import io.leaderli.litool.runner.constant.OperatorEnum;
-
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import io.leaderli.litool.runner.util.DateTimeUtil;
 
 public class TimeCompareInstruct implements Instruct {
 
@@ -18,11 +16,7 @@ public class TimeCompareInstruct implements Instruct {
                             "[%s]",
                     left, right, name()));
         }
-        DateTimeFormatter HHmm = DateTimeFormatter.ofPattern("HHmm");
-        LocalTime leftTime = LocalTime.parse(left, HHmm);
-        LocalTime rightTime = LocalTime.parse(right, HHmm);
-
-        return op.apply(leftTime, rightTime);
+        return op.apply(DateTimeUtil.parseMinutes(left), DateTimeUtil.parseMinutes(right));
     }
 
     @Override
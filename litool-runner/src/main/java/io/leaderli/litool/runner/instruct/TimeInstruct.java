@@ -1,9 +1,9 @@
 package io.leaderli.litool.runner.instruct;
 
 import io.leaderli.litool.core.text.StringUtils;
+import io.leaderli.litool.runner.util.DateTimeUtil;
 
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 
 public class TimeInstruct implements Instruct {
 
@@ -20,7 +20,7 @@ public class TimeInstruct implements Instruct {
         if (StringUtils.equals(test, "local_test")) {
             return currentDate;
         }
-        return LocalTime.now().format(DateTimeFormatter.ofPattern(formatStr));
+        return LocalTime.now().format(DateTimeUtil.formatter(formatStr));
     }
 
 
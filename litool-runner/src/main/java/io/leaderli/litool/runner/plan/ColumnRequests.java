@@ -0,0 +1,78 @@
+package io.leaderli.litool.runner.plan;
+
+import io.leaderli.litool.core.exception.LiAssertUtil;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 将按列存储的请求视为请求报文的列表，每个请求报文只是对应行的视图，不会复制取值
+ *
+ * @see MainPlan#executeColumns(Map)
+ */
+final class ColumnRequests extends AbstractList<Map<String, String>> {
+
+    private final Map<String, String[]> columns;
+    private final int size;
+
+    private ColumnRequests(Map<String, String[]> columns, int size) {
+        this.columns = columns;
+        this.size = size;
+    }
+
+    static ColumnRequests of(Map<String, String[]> columns) {
+        int size = -1;
+        for (Map.Entry<String, String[]> column : columns.entrySet()) {
+            int length = column.getValue().length;
+            if (size < 0) {
+                size = length;
+            }
+            LiAssertUtil.assertTrue(size == length, String.format("the column [%s] size %d is not match %d",
+                    column.getKey(), length, size));
+        }
+        return new ColumnRequests(columns, Math.max(size, 0));
+    }
+
+    @Override
+    public Map<String, String> get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return new Row(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private class Row extends AbstractMap<String, String> {
+
+        private final int index;
+
+        private Row(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String get(Object key) {
+            String[] column = columns.get(key);
+            return column == null ? null : column[index];
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return columns.containsKey(key);
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            Map<String, String> row = new HashMap<>();
+            columns.forEach((key, column) -> row.put(key, column[index]));
+            return row.entrySet();
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package io.leaderli.litool.runner.plan;
+
+import io.leaderli.litool.core.collection.ImmutableMap;
+import io.leaderli.litool.runner.Context;
+import io.leaderli.litool.runner.event.UnitErrorEvent;
+import io.leaderli.litool.runner.executor.MainElementExecutor;
+import io.leaderli.litool.runner.TypeAlias;
+import io.leaderli.litool.runner.VariableLayout;
+import io.leaderli.litool.runner.instruct.IFunc;
+import io.leaderli.litool.runner.xml.EntryElement;
+import io.leaderli.litool.runner.xml.MainElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * 由 {@link MainElement} 编译得到的扁平执行计划，与 {@link MainElementExecutor} 的执行结果一致。
+ * <p>
+ * router 下所有的 sequence、unit、task 被展开为一个指令数组，goto 的目标、表达式的取值方式以及 func 的引用均在编译时解析，
+ * 执行时不再遍历 executor 树，也不再发布 {@link io.leaderli.litool.runner.event.VisitorEvent}。
+ * <p>
+ * 所有变量在编译时按照 {@link VariableLayout} 分配槽位，执行时按照槽位存取。
+ * 执行计划本身是不可变的，可以被多个线程同时使用，每次执行使用独立的 {@link Context} 即可，context 可以在执行完成后重置并复用
+ *
+ * @see PlanCompiler
+ */
+public final class MainPlan {
+
+    private static final Consumer<Context> NO_CUSTOMIZER = context -> {
+    };
+
+    private final VariableLayout layout;
+    private final EntryElement[] requests;
+    /**
+     * 请求变量缺失时使用的默认值，已按照类型转换
+     */
+    private final Object[] requestDefaults;
+    /**
+     * 返回变量的初始值，已按照类型转换
+     */
+    private final Object[] responseDefaults;
+    private final ImmutableMap<String, IFunc> funcFactory;
+    private final Step[] steps;
+    /**
+     * 每个 sequence 第一条指令的下标，第一个 sequence 为主流程
+     */
+    private final int[] entries;
+    private final String[] sequenceIds;
+
+    MainPlan(VariableLayout layout, EntryElement[] requests, Object[] requestDefaults, Object[] responseDefaults,
+             ImmutableMap<String, IFunc> funcFactory, Step[] steps, int[] entries, String[] sequenceIds) {
+        this.layout = layout;
+        this.requests = requests;
+        this.requestDefaults = requestDefaults;
+        this.responseDefaults = responseDefaults;
+        this.funcFactory = funcFactory;
+        this.steps = steps;
+        this.entries = entries;
+        this.sequenceIds = sequenceIds;
+    }
+
+    /**
+     * @param mainElement 已通过校验的 mainElement
+     * @return 执行计划
+     */
+    public static MainPlan compile(MainElement mainElement) {
+        return new PlanCompiler(mainElement).compile();
+    }
+
+    /**
+     * 创建按照本执行计划的槽位存取变量的 context，执行完成后可以通过 {@link Context#reset(Map)} 重复使用
+     *
+     * @return 新的 context
+     */
+    public Context newContext() {
+        return new Context(layout);
+    }
+
+    /**
+     * @param context 上下文，未绑定本执行计划的槽位时会先进行绑定
+     * @see #newContext()
+     */
+    public void execute(Context context) {
+
+        if (context.getLayout() != layout) {
+            context.bind(layout);
+        }
+        for (int i = 0; i < requests.length; i++) {
+            EntryElement entry = requests[i];
+            Object value = context.getOriginRequest(entry.getKey());
+            context.setRequest(i, value == null
+                    ? requestDefaults[i]
+                    : TypeAlias.parser(entry.getType(), (String) value, entry.getDef()));
+        }
+        context.origin_request_or_response.clear();
+        for (int i = 0; i < responseDefaults.length; i++) {
+            context.setResponse(i, responseDefaults[i]);
+        }
+        context.setFuncFactory(funcFactory);
+
+        int next = run(context, 0);
+        // 与 RouterElementExecutor 一致，仅主流程中的 goto 会被响应
+        if (next != Step.HALT) {
+            run(context, next);
+        }
+    }
+
+    /**
+     * 依次执行一批请求，所有请求共用同一个 context，context 上没有注册监听器，执行时发布的事件会被忽略
+     *
+     * @param requests 请求报文
+     * @return 与请求报文一一对应的返回报文
+     * @see Context#toResponse()
+     * @see #executeBatch(List, Consumer)
+     */
+    public List<Map<String, Object>> executeBatch(List<? extends Map<String, String>> requests) {
+        return executeBatch(requests, NO_CUSTOMIZER);
+    }
+
+    /**
+     * 依次执行一批请求，所有请求共用同一个 context
+     *
+     * @param requests   请求报文
+     * @param customizer 在 context 创建后、执行第一个请求前调用一次，例如注册 {@link UnitErrorEvent} 的监听器，
+     *                   监听器在 {@link Context#reset(Map)} 后仍然保留，会收到所有请求的事件
+     * @return 与请求报文一一对应的返回报文
+     */
+    public List<Map<String, Object>> executeBatch(List<? extends Map<String, String>> requests,
+                                                  Consumer<? super Context> customizer) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object>[] responses = new Map[requests.size()];
+        executeRange(requests, responses, 0, responses.length, customizer);
+        return Arrays.asList(responses);
+    }
+
+    /**
+     * 将一批请求拆分为若干段并发执行，每一段使用独立的 context，context 上没有注册监听器
+     *
+     * @param requests 请求报文
+     * @param executor 执行各段请求的线程池，例如 {@link ForkJoinPool#commonPool()}
+     * @return 与请求报文一一对应的返回报文
+     * @see #executeBatch(List, ExecutorService, Consumer)
+     */
+    public List<Map<String, Object>> executeBatch(List<? extends Map<String, String>> requests,
+                                                  ExecutorService executor) {
+        return executeBatch(requests, executor, NO_CUSTOMIZER);
+    }
+
+    /**
+     * 将一批请求拆分为若干段并发执行，每一段使用独立的 context
+     *
+     * @param requests   请求报文
+     * @param executor   执行各段请求的线程池，例如 {@link ForkJoinPool#commonPool()}
+     * @param customizer 每一段的 context 创建后调用一次，会在多个线程中被调用，注册的监听器需要是线程安全的
+     * @return 与请求报文一一对应的返回报文
+     */
+    public List<Map<String, Object>> executeBatch(List<? extends Map<String, String>> requests,
+                                                  ExecutorService executor, Consumer<? super Context> customizer) {
+        int size = requests.size();
+        int parallelism = executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        // 每个线程分配多段，减少各段耗时不均导致的等待
+        int chunk = Math.max(1, (size + parallelism * 4 - 1) / (parallelism * 4));
+        @SuppressWarnings("unchecked")
+        Map<String, Object>[] responses = new Map[size];
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int from = 0; from < size; from += chunk) {
+            int start = from;
+            int end = Math.min(size, from + chunk);
+            futures.add(executor.submit(() -> executeRange(requests, responses, start, end, customizer)));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException(e.getCause());
+        }
+        return Arrays.asList(responses);
+    }
+
+    /**
+     * 按列执行一批请求，每个请求变量对应一列，列中第 i 个值属于第 i 个请求，不需要为每个请求构造报文
+     *
+     * @param columns 请求变量名与其取值列，所有列的长度需要相同
+     * @return 与请求一一对应的返回报文
+     */
+    public List<Map<String, Object>> executeColumns(Map<String, String[]> columns) {
+        return executeBatch(ColumnRequests.of(columns));
+    }
+
+    /**
+     * 按列并发执行一批请求
+     *
+     * @param columns  请求变量名与其取值列，所有列的长度需要相同
+     * @param executor 执行各段请求的线程池
+     * @return 与请求一一对应的返回报文
+     * @see #executeColumns(Map)
+     */
+    public List<Map<String, Object>> executeColumns(Map<String, String[]> columns, ExecutorService executor) {
+        return executeBatch(ColumnRequests.of(columns), executor);
+    }
+
+    /**
+     * 按列执行一批请求
+     *
+     * @param columns    请求变量名与其取值列，所有列的长度需要相同
+     * @param customizer 在 context 创建后调用一次
+     * @return 与请求一一对应的返回报文
+     * @see #executeBatch(List, Consumer)
+     */
+    public List<Map<String, Object>> executeColumns(Map<String, String[]> columns,
+                                                    Consumer<? super Context> customizer) {
+        return executeBatch(ColumnRequests.of(columns), customizer);
+    }
+
+    /**
+     * 按列并发执行一批请求
+     *
+     * @param columns    请求变量名与其取值列，所有列的长度需要相同
+     * @param executor   执行各段请求的线程池
+     * @param customizer 每一段的 context 创建后调用一次
+     * @return 与请求一一对应的返回报文
+     * @see #executeBatch(List, ExecutorService, Consumer)
+     */
+    public List<Map<String, Object>> executeColumns(Map<String, String[]> columns, ExecutorService executor,
+                                                    Consumer<? super Context> customizer) {
+        return executeBatch(ColumnRequests.of(columns), executor, customizer);
+    }
+
+    private void executeRange(List<? extends Map<String, String>> requests, Map<String, Object>[] responses,
+                              int from, int to, Consumer<? super Context> customizer) {
+        Context context = newContext();
+        customizer.accept(context);
+        for (int i = from; i < to; i++) {
+            context.reset(requests.get(i));
+            execute(context);
+            responses[i] = context.toResponse();
+        }
+    }
+
+    public VariableLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * @return 指令数量
+     */
+    public int size() {
+        return steps.length;
+    }
+
+    @SuppressWarnings("java:S1181")
+    private int run(Context context, int sequence) {
+        int pc = entries[sequence];
+        while (pc > Step.HALT) {
+            Step step = steps[pc];
+            try {
+                pc = step.execute(context);
+            } catch (Throwable throwable) {
+                context.publishEvent(new UnitErrorEvent(sequenceIds[step.sequence], throwable));
+                pc = step.recover;
+            }
+        }
+        return Step.targetSequence(pc);
+    }
+}
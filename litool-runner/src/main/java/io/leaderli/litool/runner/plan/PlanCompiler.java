@@ -0,0 +1,199 @@
+package io.leaderli.litool.runner.plan;
+
+import io.leaderli.litool.core.collection.ImmutableMap;
+import io.leaderli.litool.core.exception.LiAssertUtil;
+import io.leaderli.litool.core.meta.Lira;
+import io.leaderli.litool.core.text.StrSubstitution;
+import io.leaderli.litool.runner.Context;
+import io.leaderli.litool.runner.Expression;
+import io.leaderli.litool.runner.TypeAlias;
+import io.leaderli.litool.runner.VariableLayout;
+import io.leaderli.litool.runner.constant.VariablesModel;
+import io.leaderli.litool.runner.executor.funcs.FuncsElementExecutor;
+import io.leaderli.litool.runner.executor.router.task.BaseEventElementExecutor;
+import io.leaderli.litool.runner.executor.router.task.CoordinateElementExecutor;
+import io.leaderli.litool.runner.instruct.IFunc;
+import io.leaderli.litool.runner.util.ExpressionUtil;
+import io.leaderli.litool.runner.xml.EntryElement;
+import io.leaderli.litool.runner.xml.MainElement;
+import io.leaderli.litool.runner.xml.router.SequenceElement;
+import io.leaderli.litool.runner.xml.router.UnitElement;
+import io.leaderli.litool.runner.xml.router.task.AssignElement;
+import io.leaderli.litool.runner.xml.router.task.BaseElement;
+import io.leaderli.litool.runner.xml.router.task.BaseEventElement;
+import io.leaderli.litool.runner.xml.router.task.CoordinateElement;
+import io.leaderli.litool.runner.xml.router.task.GotoElement;
+import io.leaderli.litool.runner.xml.router.task.IfElement;
+import io.leaderli.litool.runner.xml.router.task.TaskElement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 将 {@link MainElement} 编译为 {@link MainPlan}
+ * <pre>
+ * sequence_a:  [unit1 task...] [unit2 task...] halt
+ * sequence_b:  [unit1 task...] halt
+ * </pre>
+ * if 指令在条件不成立时跳过其子指令，goto 指令直接指向目标 sequence，unit 内任意指令抛出异常时跳转到下一个 unit
+ */
+class PlanCompiler {
+
+    private final MainElement mainElement;
+    private final ImmutableMap<String, IFunc> funcFactory;
+    private final Map<String, Integer> sequenceIndex = new HashMap<>();
+    private final List<Step> steps = new ArrayList<>();
+    private final VariableLayout layout;
+
+    PlanCompiler(MainElement mainElement) {
+        this.mainElement = mainElement;
+        FuncsElementExecutor funcs = mainElement.getFuncs().executor();
+        this.funcFactory = funcs.getFuncFactory();
+        this.layout = layout();
+    }
+
+    /**
+     * 返回变量除了 response 中声明的变量外，还包含所有 assign 的变量
+     */
+    private VariableLayout layout() {
+        List<String> requestNames = mainElement.getRequest().getEntryList().lira().map(EntryElement::getKey).get();
+        List<String> responseNames = mainElement.getResponse().getEntryList().lira().map(EntryElement::getKey).get();
+        for (SequenceElement sequence : mainElement.getRouter().getSequenceList().lira()) {
+            for (UnitElement unit : sequence.getUnitList().lira()) {
+                collectAssign(unit.getTaskList().lira(), responseNames);
+            }
+        }
+        List<IFunc> funcs = mainElement.getFuncs().getFuncList().lira()
+                .map(func -> funcFactory.get(func.getName()))
+                .get();
+        return new VariableLayout(requestNames, responseNames, funcs);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static void collectAssign(Lira<BaseElement> tasks, List<String> responseNames) {
+        for (BaseElement<?, ?> task : tasks) {
+            if (task instanceof AssignElement) {
+                responseNames.add(((AssignElement) task).getName().getName());
+            } else if (task instanceof TaskElement) {
+                collectAssign(((TaskElement<?, ?>) task).getTaskList().lira(), responseNames);
+            }
+        }
+    }
+
+    /**
+     * @param expression 表达式
+     * @return 预先绑定了取值方式的表达式，字面量直接返回，func 直接调用，其他变量按照槽位读取
+     */
+    Function<Context, Object> accessor(Expression expression) {
+        String name = expression.getName();
+        VariablesModel model = expression.getModel();
+        if (model == VariablesModel.LITERAL) {
+            Object value = expression.getObject();
+            return context -> value;
+        }
+        if (model == VariablesModel.FUNC) {
+            IFunc func = funcFactory.get(name);
+            LiAssertUtil.assertTrue(func != null, String.format("func [%s] is not exist", name));
+            return func::apply;
+        }
+        int slot = layout.slot(model, name);
+        if (slot < 0) {
+            return expression::apply;
+        }
+        return context -> model.load(context, slot);
+    }
+
+    MainPlan compile() {
+
+        List<SequenceElement> sequences = mainElement.getRouter().getSequenceList().lira().get();
+        for (int i = 0; i < sequences.size(); i++) {
+            sequenceIndex.put(sequences.get(i).getName(), i);
+        }
+
+        int[] entries = new int[sequences.size()];
+        String[] sequenceIds = new String[sequences.size()];
+        for (int i = 0; i < sequences.size(); i++) {
+            SequenceElement sequence = sequences.get(i);
+            entries[i] = steps.size();
+            sequenceIds[i] = sequence.getId();
+
+            for (UnitElement unit : sequence.getUnitList().lira()) {
+                int unitStart = steps.size();
+                for (BaseElement<?, ?> task : unit.getTaskList().lira()) {
+                    compileTask(task);
+                }
+                int unitEnd = steps.size();
+                for (int pc = unitStart; pc < unitEnd; pc++) {
+                    steps.get(pc).recover = unitEnd;
+                    steps.get(pc).sequence = i;
+                }
+            }
+            add(new Step.HaltStep()).sequence = i;
+        }
+
+        EntryElement[] requests = mainElement.getRequest().getEntryList().lira().toArray(EntryElement.class);
+        Object[] requestDefaults = new Object[requests.length];
+        for (int i = 0; i < requests.length; i++) {
+            requestDefaults[i] = TypeAlias.parser(requests[i].getType(), requests[i].getDef(), requests[i].getDef());
+        }
+        // 声明的返回变量位于前部槽位，仅 assign 的变量没有默认值，未赋值时不会出现在返回报文中
+        Lira<EntryElement> responses = mainElement.getResponse().getEntryList().lira();
+        Object[] responseDefaults = new Object[responses.map(EntryElement::getKey).distinct().size()];
+        for (EntryElement entry : responses) {
+            responseDefaults[layout.response(entry.getKey())] = TypeAlias.parser(entry.getType(), null,
+                    entry.getDef());
+        }
+
+        return new MainPlan(
+                layout,
+                requests,
+                requestDefaults,
+                responseDefaults,
+                funcFactory,
+                steps.toArray(new Step[0]),
+                entries,
+                sequenceIds);
+    }
+
+    private void compileTask(BaseElement<?, ?> task) {
+
+        if (task instanceof IfElement) {
+            IfElement ifElement = (IfElement) task;
+            Step.IfStep step = add(new Step.IfStep(accessor(ifElement.getCond())));
+            for (BaseElement<?, ?> child : ifElement.getTaskList().lira()) {
+                compileTask(child);
+            }
+            step.skip = steps.size();
+        } else if (task instanceof AssignElement) {
+            AssignElement assign = (AssignElement) task;
+            int slot = layout.response(assign.getName().getName());
+            add(new Step.AssignStep(slot, accessor(assign.getValue())));
+        } else if (task instanceof GotoElement) {
+            String next = ((GotoElement) task).getNext().next;
+            Integer target = sequenceIndex.get(next);
+            LiAssertUtil.assertTrue(target != null, String.format("goto next [%s] is not exist", next));
+            add(new Step.GotoStep(target));
+        } else if (task instanceof BaseEventElement) {
+            BaseEventElement<?, ?, ?> event = (BaseEventElement<?, ?, ?>) task;
+            StrSubstitution.Template template = StrSubstitution.compile(event.getLongExpression().getExpr());
+            Map<String, Function<Context, Object>> variables = new HashMap<>();
+            for (String expr : template.variables()) {
+                variables.put(expr, accessor(ExpressionUtil.getExpression(expr)));
+            }
+            add(new Step.EventStep(template, variables, (BaseEventElementExecutor<?, ?>) event.executor()));
+        } else if (task instanceof CoordinateElement) {
+            add(new Step.CoordinateStep(new CoordinateElementExecutor((CoordinateElement) task)));
+        } else {
+            throw new UnsupportedOperationException(String.format("task [%s] is unsupported", task.tag));
+        }
+    }
+
+    private <T extends Step> T add(T step) {
+        steps.add(step);
+        step.next = steps.size();
+        return step;
+    }
+}
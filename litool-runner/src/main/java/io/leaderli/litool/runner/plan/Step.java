@@ -0,0 +1,143 @@
+package io.leaderli.litool.runner.plan;
+
+import io.leaderli.litool.core.text.StrSubstitution;
+import io.leaderli.litool.runner.Context;
+import io.leaderli.litool.runner.executor.router.task.BaseEventElementExecutor;
+import io.leaderli.litool.runner.executor.router.task.CoordinateElementExecutor;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 执行计划中的一条指令，所有跳转目标在编译期已解析为 {@link MainPlan} 指令数组的下标
+ */
+abstract class Step {
+
+    /**
+     * 当前 sequence 执行结束
+     */
+    static final int HALT = -1;
+
+    /**
+     * 顺序执行时的下一条指令
+     */
+    int next;
+    /**
+     * 指令抛出异常时跳转的位置，即所属 unit 之后的第一条指令
+     */
+    int recover = HALT;
+    /**
+     * 指令所属 sequence 的下标
+     */
+    int sequence;
+
+    /**
+     * @param sequence sequence 的下标
+     * @return 跳转到指定 sequence 的编码，始终小于 {@link #HALT}
+     * @see #targetSequence(int)
+     */
+    static int gotoSequence(int sequence) {
+        return HALT - 1 - sequence;
+    }
+
+    /**
+     * @param pc 执行结束时的指令位置
+     * @return 需要跳转的 sequence 下标，无需跳转时返回 {@link #HALT}
+     * @see #gotoSequence(int)
+     */
+    static int targetSequence(int pc) {
+        return HALT - 1 - pc;
+    }
+
+    /**
+     * @param context 上下文
+     * @return 下一条指令的下标，{@link #HALT} 表示 sequence 结束，小于 {@link #HALT} 表示跳转到其他 sequence
+     */
+    abstract int execute(Context context);
+
+
+    static class IfStep extends Step {
+
+        private final Function<Context, Object> cond;
+        int skip;
+
+        IfStep(Function<Context, Object> cond) {
+            this.cond = cond;
+        }
+
+        @Override
+        int execute(Context context) {
+            return (Boolean) cond.apply(context) ? next : skip;
+        }
+    }
+
+    static class AssignStep extends Step {
+        private final int slot;
+        private final Function<Context, Object> value;
+
+        AssignStep(int slot, Function<Context, Object> value) {
+            this.slot = slot;
+            this.value = value;
+        }
+
+        @Override
+        int execute(Context context) {
+            context.setResponse(slot, value.apply(context));
+            return next;
+        }
+    }
+
+    static class GotoStep extends Step {
+        private final int target;
+
+        GotoStep(int target) {
+            this.target = target;
+        }
+
+        @Override
+        int execute(Context context) {
+            return gotoSequence(target);
+        }
+    }
+
+    static class EventStep extends Step {
+        private final StrSubstitution.Template template;
+        private final Map<String, Function<Context, Object>> variables;
+        private final BaseEventElementExecutor<?, ?> executor;
+
+        EventStep(StrSubstitution.Template template, Map<String, Function<Context, Object>> variables,
+                  BaseEventElementExecutor<?, ?> executor) {
+            this.template = template;
+            this.variables = variables;
+            this.executor = executor;
+        }
+
+        @Override
+        int execute(Context context) {
+            String message = template.format(expr -> variables.get(expr).apply(context) + "");
+            context.publishEvent(executor.newEvent(message));
+            return next;
+        }
+    }
+
+    static class CoordinateStep extends Step {
+        private final CoordinateElementExecutor executor;
+
+        CoordinateStep(CoordinateElementExecutor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        int execute(Context context) {
+            executor.execute(context);
+            return next;
+        }
+    }
+
+    static class HaltStep extends Step {
+        @Override
+        int execute(Context context) {
+            return HALT;
+        }
+    }
+}
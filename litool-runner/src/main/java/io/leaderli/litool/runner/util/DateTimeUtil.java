@@ -0,0 +1,139 @@
+package io.leaderli.litool.runner.util;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 日期时间指令使用的解析工具，格式器全部缓存复用。
+ * <p>
+ * yyyyMMdd 和 HHmm 优先按照数字直接解析，解析结果与 {@link DateTimeFormatter#ofPattern(String)} 默认的
+ * {@link java.time.format.ResolverStyle#SMART} 保持一致，无法直接解析的值交由格式器处理，以保留原有的异常信息
+ *
+ * @author leaderli
+ * @since 2022/8/16
+ */
+public class DateTimeUtil {
+
+    public static final String YYYYMMDD_PATTERN = "yyyyMMdd";
+    public static final String HHMM_PATTERN = "HHmm";
+    public static final DateTimeFormatter YYYYMMDD = DateTimeFormatter.ofPattern(YYYYMMDD_PATTERN);
+    public static final DateTimeFormatter HHMM = DateTimeFormatter.ofPattern(HHMM_PATTERN);
+
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    static {
+        FORMATTERS.put(YYYYMMDD_PATTERN, YYYYMMDD);
+        FORMATTERS.put(HHMM_PATTERN, HHMM);
+    }
+
+    private DateTimeUtil() {
+    }
+
+    /**
+     * @param pattern 格式
+     * @return 缓存的格式器
+     */
+    public static DateTimeFormatter formatter(String pattern) {
+        return FORMATTERS.computeIfAbsent(pattern, DateTimeFormatter::ofPattern);
+    }
+
+    /**
+     * @param yyyyMMdd 日期
+     * @return 日期的数字形式 yyyyMMdd，日超出当月天数时取当月最后一天，可以直接用于比较
+     */
+    public static int parseDateValue(String yyyyMMdd) {
+        int value = parseDigits(yyyyMMdd, 8);
+        if (value > -1) {
+            int year = value / 10000;
+            int month = value / 100 % 100;
+            int day = value % 100;
+            if (year > 0 && month > 0 && month < 13 && day > 0 && day < 32) {
+                int length = lengthOfMonth(year, month);
+                return day > length ? value - day + length : value;
+            }
+        }
+        LocalDate date = LocalDate.parse(yyyyMMdd, YYYYMMDD);
+        return date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    /**
+     * @param yyyyMMdd 日期
+     * @return 日期
+     */
+    public static LocalDate parseDate(String yyyyMMdd) {
+        int value = parseDateValue(yyyyMMdd);
+        return LocalDate.of(value / 10000, value / 100 % 100, value % 100);
+    }
+
+    /**
+     * @param date 日期
+     * @return yyyyMMdd 格式的日期
+     */
+    public static String formatDate(LocalDate date) {
+        int year = date.getYear();
+        if (year < 1 || year > 9999) {
+            return date.format(YYYYMMDD);
+        }
+        char[] chars = new char[8];
+        writeDigits(chars, 0, year, 4);
+        writeDigits(chars, 4, date.getMonthValue(), 2);
+        writeDigits(chars, 6, date.getDayOfMonth(), 2);
+        return new String(chars);
+    }
+
+    /**
+     * @param HHmm 时间
+     * @return 时间在当天的分钟数，可以直接用于比较
+     */
+    public static int parseMinutes(String HHmm) {
+        int value = parseDigits(HHmm, 4);
+        if (value > -1) {
+            int hour = value / 100;
+            int minute = value % 100;
+            if (hour < 24 && minute < 60) {
+                return hour * 60 + minute;
+            }
+        }
+        LocalTime time = LocalTime.parse(HHmm, HHMM);
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static int parseDigits(String str, int length) {
+        if (str == null || str.length() != length) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = str.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static void writeDigits(char[] chars, int offset, int value, int length) {
+        for (int i = offset + length - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+}
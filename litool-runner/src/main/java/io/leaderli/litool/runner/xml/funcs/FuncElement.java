@@ -11,6 +11,7 @@ import io.leaderli.litool.runner.InstructContainer;
 import io.leaderli.litool.runner.TypeAlias;
 import io.leaderli.litool.runner.instruct.Instruct;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
@@ -58,13 +59,6 @@ public class FuncElement extends SaxBean {
 
     public void setInstruct(Instruct instruct) {
         this.instruct = instruct;
-        Class<?> returnType = instruct.getInstructMethod().first().get().getReturnType();
-        String _type = Lira.of(TypeAlias.getALIAS().entrySet())
-                .filter(entry -> entry.getValue() == returnType)
-                .map(Map.Entry::getKey)
-                .first()
-                .get();
-        this.setType(_type);
     }
 
     public String getType() {
@@ -100,13 +94,32 @@ public class FuncElement extends SaxBean {
 
     @Override
     public void end(EndEvent endEvent) {
-        super.end(endEvent);
 
         final Class<?>[] paramListTypes = params.lira()
                 .map(p -> TypeAlias.getType(p.getType())).cast(Class.class)
                 .toArray(Class.class);
-        boolean present = this.instruct.getInstructMethod()
-                .filter(m -> m.getReturnType() == TypeAlias.getType(type))
+        Lira<Method> matched = instruct == null ? Lira.none() : matched(paramListTypes);
+        if (type == null && instruct != null) {
+            // 未声明 type 时使用与参数类型匹配的 invoke 方法的返回值类型，getInstructMethod 的顺序是确定的
+            Class<?> returnType = matched.first().get(() -> instruct.getInstructMethod().first().get())
+                    .getReturnType();
+            this.setType(Lira.of(TypeAlias.getALIAS().entrySet())
+                    .filter(entry -> entry.getValue() == returnType)
+                    .map(Map.Entry::getKey)
+                    .first()
+                    .get());
+        }
+        super.end(endEvent);
+
+        boolean present = matched.filter(m -> m.getReturnType() == TypeAlias.getType(type)).present();
+
+        LiAssertUtil.assertTrue(present, () -> String.format("the func [%s] parameterType %s is  not match clazz [%s]",
+                name, Arrays.toString(paramListTypes), instruct.name()));
+
+    }
+
+    private Lira<Method> matched(Class<?>[] paramListTypes) {
+        return this.instruct.getInstructMethod()
                 .filter(method -> {
                     Class<?>[] methodParameterTypes = method.getParameterTypes();
 
@@ -124,11 +137,6 @@ public class FuncElement extends SaxBean {
                         }
                     }
                     return Objects.deepEquals(paramListTypes, methodParameterTypes);
-                }).present();
-
-
-        LiAssertUtil.assertTrue(present, () -> String.format("the func [%s] parameterType %s is  not match clazz [%s]",
-                name, Arrays.toString(paramListTypes), instruct.name()));
-
+                });
     }
 }
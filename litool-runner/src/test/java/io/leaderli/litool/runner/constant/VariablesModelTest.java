@@ -14,6 +14,7 @@ class VariablesModelTest {
     void test() {
 
         Assertions.assertThrows(UnsupportedOperationException.class, () -> VariablesModel.ERROR.apply(null, null));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> VariablesModel.LITERAL.load(null, 0));
 
     }
 
@@ -0,0 +1,152 @@
+package io.leaderli.litool.runner.executor;
+
+import io.leaderli.litool.core.resource.ResourceUtil;
+import io.leaderli.litool.core.text.StringUtils;
+import io.leaderli.litool.runner.Context;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * @author leaderli
+ * @since 2022/10/17
+ */
+class MainElementReloaderTest {
+
+    private static String script() {
+        return StringUtils.read(ResourceUtil.getResourceAsStream("runner_test.xml"), StandardCharsets.UTF_8);
+    }
+
+    private static CharSequence skill(MainElementExecutor executor) {
+        Map<String, String> request = new HashMap<>();
+        request.put("bfzType", "1");
+        Context context = new Context(request);
+        executor.visit(context);
+        return context.getResponse("skill");
+    }
+
+    private static void write(Path path, String content) throws IOException {
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void reload(@TempDir Path dir) throws IOException {
+
+        String script = script();
+        Path path = dir.resolve("main.xml");
+        write(path, script);
+
+        MainElementReloader reloader = new MainElementReloader(dir);
+        Assertions.assertTrue(reloader.get("main.xml").absent());
+        Assertions.assertTrue(reloader.reload(path), () -> reloader.errors().toString());
+        MainElementExecutor executor = reloader.get("main.xml").get();
+        Assertions.assertTrue(StringUtils.equals(skill(executor), "001"));
+        Assertions.assertTrue(reloader.checksums().containsKey("main.xml"));
+
+        // 内容未变化
+        Assertions.assertFalse(reloader.reload(path));
+        Assertions.assertEquals(1, reloader.metrics().getUnchanged());
+
+        // 解析失败时保留旧版本
+        write(path, "<main>");
+        Assertions.assertFalse(reloader.reload(path));
+        Assertions.assertSame(executor, reloader.get("main.xml").get());
+        Assertions.assertTrue(reloader.errors().containsKey("main.xml"));
+        Assertions.assertEquals(1, reloader.metrics().getFailed());
+
+        // 校验不通过时保留旧版本
+        write(path, script.replace("<response>", "<request></request><response>"));
+        Assertions.assertFalse(reloader.reload(path));
+        Assertions.assertSame(executor, reloader.get("main.xml").get());
+        Assertions.assertEquals(2, reloader.metrics().getFailed());
+
+        // 恢复为已加载的内容时移除错误信息
+        write(path, script);
+        Assertions.assertFalse(reloader.reload(path));
+        Assertions.assertFalse(reloader.errors().containsKey("main.xml"));
+        Assertions.assertEquals(2, reloader.metrics().getUnchanged());
+
+        write(path, script + "\n");
+        Assertions.assertTrue(reloader.reload(path));
+        Assertions.assertNotSame(executor, reloader.get("main.xml").get());
+        Assertions.assertFalse(reloader.errors().containsKey("main.xml"));
+        Assertions.assertEquals(2, reloader.metrics().getReloaded());
+        // 旧版本仍然可以执行
+        Assertions.assertTrue(StringUtils.equals(skill(executor), "001"));
+
+        Files.delete(path);
+        Assertions.assertFalse(reloader.reload(path));
+        Assertions.assertTrue(reloader.get("main.xml").absent());
+        Assertions.assertEquals(1, reloader.metrics().getRemoved());
+    }
+
+    @Test
+    void restart(@TempDir Path dir) throws IOException {
+
+        Path scripts = dir.resolve("scripts");
+        MainElementReloader reloader = new MainElementReloader(scripts);
+        Assertions.assertThrows(UncheckedIOException.class, reloader::start);
+
+        Files.createDirectory(scripts);
+        write(scripts.resolve("main.xml"), script());
+        try (MainElementReloader started = reloader.start()) {
+            Assertions.assertTrue(started.get("main.xml").present(), () -> started.errors().toString());
+        }
+    }
+
+    @Test
+    void closeThenStart(@TempDir Path dir) throws IOException, InterruptedException {
+
+        write(dir.resolve("a.xml"), script());
+        MainElementReloader reloader = new MainElementReloader(dir);
+        reloader.start().close();
+        Assertions.assertTrue(reloader.get("a.xml").present());
+
+        try (MainElementReloader started = reloader.start()) {
+            write(dir.resolve("b.xml"), script());
+            Assertions.assertTrue(await(() -> started.get("b.xml").present()), started.metrics()::toString);
+        }
+    }
+
+    @Test
+    void watch(@TempDir Path dir) throws IOException, InterruptedException {
+
+        String script = script();
+        write(dir.resolve("a.xml"), script);
+        write(dir.resolve("error.xml"), "<main>");
+
+        try (MainElementReloader reloader = new MainElementReloader(dir).start()) {
+
+            Assertions.assertTrue(reloader.get("a.xml").present());
+            Assertions.assertTrue(reloader.errors().containsKey("error.xml"));
+
+            Path sub = Files.createDirectory(dir.resolve("sub"));
+            write(sub.resolve("b.xml"), script);
+            Assertions.assertTrue(await(() -> reloader.get("sub/b.xml").present()), reloader.metrics()::toString);
+
+            MainElementExecutor a = reloader.get("a.xml").get();
+            write(dir.resolve("a.xml"), script + "\n");
+            Assertions.assertTrue(await(() -> reloader.get("a.xml").get() != a), reloader.metrics()::toString);
+
+            Files.delete(dir.resolve("a.xml"));
+            Assertions.assertTrue(await(() -> reloader.get("a.xml").absent()), reloader.metrics()::toString);
+        }
+    }
+
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        // 部分平台的 WatchService 使用轮询实现
+        for (int i = 0; i < 300 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(100);
+        }
+        return condition.getAsBoolean();
+    }
+}
@@ -3,11 +3,13 @@ package io.leaderli.litool.runner.instruct;
 import io.leaderli.litool.core.collection.ImmutableMap;
 import io.leaderli.litool.dom.parser.SaxEventInterceptor;
 import io.leaderli.litool.runner.Context;
+import io.leaderli.litool.runner.VariableLayout;
 import io.leaderli.litool.runner.executor.funcs.FuncsElementExecutor;
 import io.leaderli.litool.runner.xml.funcs.FuncsElement;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -31,6 +33,28 @@ class IFuncTest {
         Assertions.assertNotNull(context.getFuncResultCache("func_a"));
     }
 
+    @Test
+    void contextSlot() {
+        SaxEventInterceptor<FuncsElement> dfs_funcs = new SaxEventInterceptor<>(FuncsElement.class);
+        FuncsElement funcsElement = dfs_funcs.parse("funcs/ifunc/funcs_context.xml");
+        FuncsElementExecutor funcsElementExecutor = new FuncsElementExecutor(funcsElement);
+        IFunc func = funcsElementExecutor.getFuncFactory().get("func_a");
+
+        VariableLayout layout = new VariableLayout(Collections.singletonList("param1"), Collections.emptyList(),
+                Collections.singletonList(func));
+        Context context = new Context(layout);
+        context.setFuncFactory(funcsElementExecutor.getFuncFactory());
+        context.setRequest(layout.request("param1"), "1");
+
+        Assertions.assertFalse(context.containsFuncResultCache(func.slot));
+        Assertions.assertTrue((Boolean) context.getFuncResult(func.slot));
+        Assertions.assertTrue(context.containsFuncResultCache(func.slot));
+        Assertions.assertTrue(context.func_result_cache.isEmpty());
+
+        context.reset(new HashMap<>());
+        Assertions.assertFalse(context.containsFuncResultCache(func.slot));
+    }
+
     @Test
     void constant() {
         SaxEventInterceptor<FuncsElement> dfs = new SaxEventInterceptor<>(FuncsElement.class);
@@ -40,6 +64,8 @@ class IFuncTest {
         Context context = new Context(request);
 
         FuncsElementExecutor funcsElementExecutor = new FuncsElementExecutor(funcsElement);
+        // 常量 func 在初始化时已经计算完成
+        Assertions.assertTrue(funcsElementExecutor.getFuncFactory().get("func_a").resolved());
         funcsElementExecutor.execute(context);
 
         Assertions.assertNull(context.getFuncResultCache("func_a"));
@@ -0,0 +1,75 @@
+package io.leaderli.litool.runner.instruct;
+
+import io.leaderli.litool.core.collection.ImmutableMap;
+import io.leaderli.litool.dom.parser.SaxEventInterceptor;
+import io.leaderli.litool.runner.Context;
+import io.leaderli.litool.runner.xml.funcs.FuncElement;
+import io.leaderli.litool.runner.xml.funcs.FuncsElement;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+class InstructInvokerTest {
+
+    private static FuncElement func(String file, int index) {
+        SaxEventInterceptor<FuncsElement> dfs_funcs = new SaxEventInterceptor<>(FuncsElement.class);
+        return dfs_funcs.parse(file).getFuncList().lira().get(index).get();
+    }
+
+    private static Context context(String param1) {
+        Map<String, String> request = new HashMap<>();
+        request.put("param1", param1);
+        Context context = new Context(request);
+        context.setReadonly_request(ImmutableMap.of(new HashMap<>(request)));
+        return context;
+    }
+
+    @Test
+    void invoke() {
+
+        InstructInvoker add1 = InstructInvoker.of(func("funcs/func_add.xml", 0));
+        InstructInvoker add2 = InstructInvoker.of(func("funcs/func_add.xml", 1));
+        Assertions.assertTrue(add1.bound());
+        Assertions.assertTrue(add2.bound());
+        Assertions.assertEquals(0, add1.invoke(null));
+        Assertions.assertEquals(0.0, add2.invoke(null));
+
+        InstructInvoker math = InstructInvoker.of(func("funcs/func_math.xml", 0));
+        Assertions.assertTrue(math.bound());
+        Assertions.assertEquals(false, math.invoke(null));
+    }
+
+    @Test
+    void varargs() {
+
+        InstructInvoker in = InstructInvoker.of(func("funcs/ifunc/funcs_context.xml", 0));
+        Assertions.assertTrue(in.bound());
+        Assertions.assertEquals(true, in.invoke(context("1")));
+        Assertions.assertEquals(false, in.invoke(context("2")));
+        // 参数为 null 时使用 Instruct#apply
+        Assertions.assertEquals(false, in.invoke(context(null)));
+    }
+
+    @Test
+    void defaultType() {
+
+        // 未声明 type 时由参数类型决定，与 invoke 方法的扫描顺序无关
+        FuncElement addInt = func("funcs/func_default_type.xml", 0);
+        FuncElement addDouble = func("funcs/func_default_type.xml", 1);
+        Assertions.assertEquals("int", addInt.getType());
+        Assertions.assertEquals("double", addDouble.getType());
+        Assertions.assertEquals(1, InstructInvoker.of(addInt).invoke(null));
+        Assertions.assertEquals(1.0, InstructInvoker.of(addDouble).invoke(null));
+    }
+
+    @Test
+    void nullArgs() {
+
+        InstructInvoker in = InstructInvoker.of(func("funcs/ifunc/funcs_null.xml", 0));
+        Assertions.assertEquals(false, in.invoke(context("2")));
+        // 与之前一致，为 null 的参数不会传递给 Instruct#apply，即 in("1", "1")
+        Assertions.assertEquals(true, in.invoke(context(null)));
+    }
+}
@@ -0,0 +1,262 @@
+package io.leaderli.litool.runner.plan;
+
+import io.leaderli.litool.core.event.ILiEventListener;
+import io.leaderli.litool.core.exception.AssertException;
+import io.leaderli.litool.dom.parser.SaxEventInterceptor;
+import io.leaderli.litool.runner.Context;
+import io.leaderli.litool.runner.event.EchoEvent;
+import io.leaderli.litool.runner.event.UnitErrorEvent;
+import io.leaderli.litool.runner.executor.MainElementExecutor;
+import io.leaderli.litool.runner.xml.MainElement;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+class MainPlanTest {
+
+    private static MainElement parse(String path) {
+        SaxEventInterceptor<MainElement> interceptor = new SaxEventInterceptor<>(MainElement.class);
+        return interceptor.parse(path);
+    }
+
+    private static String skill(MainPlan plan, Map<String, String> request) {
+        Context context = new Context(request);
+        plan.execute(context);
+        return context.getResponse("skill");
+    }
+
+    private static Map<String, String> request(String... kv) {
+        Map<String, String> request = new HashMap<>();
+        for (int i = 0; i < kv.length; i += 2) {
+            request.put(kv[i], kv[i + 1]);
+        }
+        return request;
+    }
+
+    @Test
+    void execute() {
+        MainPlan plan = MainPlan.compile(parse("runner_test.xml"));
+
+        Assertions.assertEquals("001", skill(plan, request("bfzType", "1")));
+        Assertions.assertEquals("002", skill(plan, request("bfzType", "2")));
+        Assertions.assertEquals("sequence_a", skill(plan, request("bfzType", "0", "switch86", "0", "_env",
+                "local_test", "_testTime", "2300")));
+        Assertions.assertEquals("031", skill(plan, request("language", "1", "_env", "local_test", "_testTime",
+                "1200")));
+        Assertions.assertEquals("042", skill(plan, request("isBankInline", "1", "_env", "local_test", "_testTime",
+                "1200")));
+        Assertions.assertEquals("080", skill(plan, request("phoneType", "201", "_env", "local_test", "_testTime",
+                "1200")));
+        Assertions.assertEquals("030", skill(plan, request("phoneType", "201", "_env", "local_test", "_testTime",
+                "0000")));
+        Assertions.assertEquals("053", skill(plan, request("custType", "3", "_env", "local_test", "_testTime",
+                "1200")));
+    }
+
+    @Test
+    void sameAsExecutor() {
+        MainElement element = parse("runner_test.xml");
+        MainPlan plan = MainPlan.compile(element);
+        MainElementExecutor executor = new MainElementExecutor(element);
+
+        String[] times = {"0000", "0730", "1200", "2300"};
+        String[] flags = {"0", "1", "2", "3", "201"};
+        for (String time : times) {
+            for (String flag : flags) {
+                Map<String, String> request = request("bfzType", flag, "switch86", flag, "language", flag,
+                        "isBankInline", flag, "phoneType", flag, "custType", flag, "lostFlag", flag,
+                        "_env", "local_test", "_testTime", time);
+                Context context = new Context(request);
+                executor.visit(context);
+                Assertions.assertEquals((Object) context.getResponse("skill"), skill(plan, request));
+            }
+        }
+    }
+
+    @Test
+    void reset() {
+        MainPlan plan = MainPlan.compile(parse("runner_test.xml"));
+
+        Context context = plan.newContext();
+        context.reset(request("bfzType", "1"));
+        plan.execute(context);
+        Assertions.assertEquals("001", context.getResponse("skill"));
+
+        context.reset(request("bfzType", "2"));
+        plan.execute(context);
+        Assertions.assertEquals("002", context.getResponse("skill"));
+        Assertions.assertEquals("002", context.toResponse().get("skill"));
+
+        context.reset(request());
+        plan.execute(context);
+        Assertions.assertEquals("", context.getResponse("skill"));
+    }
+
+    @Test
+    void unassigned() {
+        MainPlan plan = MainPlan.compile(parse("router/task/assign_unreached.xml"));
+
+        Context context = plan.newContext();
+        context.reset(request("CHANNEL", "b"));
+        plan.execute(context);
+        Map<String, Object> response = context.toResponse();
+        Assertions.assertFalse(response.containsKey("skill"));
+        Assertions.assertEquals("1", response.get("ID"));
+
+        context.reset(request("CHANNEL", "a"));
+        plan.execute(context);
+        Assertions.assertEquals("001", context.toResponse().get("skill"));
+
+        context.reset(request("CHANNEL", "b"));
+        plan.execute(context);
+        Assertions.assertFalse(context.toResponse().containsKey("skill"));
+        Assertions.assertNull(context.getResponse("skill"));
+    }
+
+    @Test
+    void unitError() {
+        MainPlan plan = MainPlan.compile(parse("unit_error.xml"));
+
+        Context context = new Context(request("bfzType", "1"));
+        List<Throwable> errors = new ArrayList<>();
+        context.registerListener(new ILiEventListener<UnitErrorEvent>() {
+            @Override
+            public void listen(UnitErrorEvent event) {
+                errors.add(event.getSource().get()._2);
+            }
+        });
+        plan.execute(context);
+
+        Assertions.assertEquals("003", context.getResponse("skill"));
+        Assertions.assertEquals(1, errors.size());
+    }
+
+    @Test
+    void executeBatchListener() {
+        MainPlan plan = MainPlan.compile(parse("unit_error.xml"));
+
+        List<Map<String, String>> requests = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            requests.add(request("bfzType", "1"));
+        }
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        ILiEventListener<UnitErrorEvent> listener = new ILiEventListener<UnitErrorEvent>() {
+            @Override
+            public void listen(UnitErrorEvent event) {
+                errors.add(event.getSource().get()._2);
+            }
+        };
+        List<Map<String, Object>> responses = plan.executeBatch(requests, context -> context.registerListener(listener));
+        Assertions.assertEquals("003", responses.get(99).get("skill"));
+        Assertions.assertEquals(100, errors.size());
+
+        errors.clear();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Assertions.assertEquals(responses, plan.executeBatch(requests, pool,
+                    context -> context.registerListener(listener)));
+        } finally {
+            pool.shutdown();
+        }
+        Assertions.assertEquals(100, errors.size());
+
+        errors.clear();
+        plan.executeBatch(requests);
+        Assertions.assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    void echo() {
+        MainPlan plan = MainPlan.compile(parse("router/task/echo.xml"));
+
+        Context context = new Context(new HashMap<>());
+        List<String> messages = new ArrayList<>();
+        context.registerListener(new ILiEventListener<EchoEvent>() {
+            @Override
+            public void listen(EchoEvent event) {
+                messages.add(event.getSource().get()._2);
+            }
+        });
+        plan.execute(context);
+
+        Assertions.assertEquals("hello 123 world ", messages.get(0));
+    }
+
+    @Test
+    void concurrent() throws Exception {
+        MainPlan plan = MainPlan.compile(parse("runner_test.xml"));
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                String bfzType = i % 2 == 0 ? "1" : "2";
+                futures.add(pool.submit(() -> skill(plan, request("bfzType", bfzType))));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                Assertions.assertEquals(i % 2 == 0 ? "001" : "002", futures.get(i).get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void executeBatch() {
+        MainPlan plan = MainPlan.compile(parse("runner_test.xml"));
+
+        List<Map<String, String>> requests = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            requests.add(request("bfzType", String.valueOf(i % 3), "switch86", "0", "_env", "local_test",
+                    "_testTime", "2300"));
+        }
+        List<Map<String, Object>> responses = plan.executeBatch(requests);
+        Assertions.assertEquals(1000, responses.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Assertions.assertEquals(skill(plan, requests.get(i)), responses.get(i).get("skill"));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Assertions.assertEquals(responses, plan.executeBatch(requests, pool));
+            Assertions.assertTrue(plan.executeBatch(new ArrayList<>(), pool).isEmpty());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void executeColumns() {
+        MainPlan plan = MainPlan.compile(parse("runner_test.xml"));
+
+        Map<String, String[]> columns = new HashMap<>();
+        columns.put("bfzType", new String[]{"1", "2", "0"});
+        columns.put("switch86", new String[]{"0", "0", "0"});
+        columns.put("_env", new String[]{"local_test", "local_test", "local_test"});
+        columns.put("_testTime", new String[]{"2300", "2300", "2300"});
+
+        List<Map<String, Object>> responses = plan.executeColumns(columns);
+        Assertions.assertEquals("001", responses.get(0).get("skill"));
+        Assertions.assertEquals("002", responses.get(1).get("skill"));
+        Assertions.assertEquals("sequence_a", responses.get(2).get("skill"));
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Assertions.assertEquals(responses, plan.executeColumns(columns, pool));
+        } finally {
+            pool.shutdown();
+        }
+
+        columns.put("language", new String[]{"1"});
+        Assertions.assertThrows(AssertException.class, () -> plan.executeColumns(columns));
+    }
+}
@@ -0,0 +1,50 @@
+package io.leaderli.litool.runner.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+class DateTimeUtilTest {
+
+    @Test
+    void parseDate() {
+        // 与 DateTimeFormatter 的解析结果保持一致，包括日超出当月天数的情况
+        for (String date : new String[]{"20220101", "20220228", "20220229", "20220230", "20220231", "20200229",
+                "19000229", "20000229", "20221231", "00010101", "99991231"}) {
+            Assertions.assertEquals(LocalDate.parse(date, DateTimeUtil.YYYYMMDD), DateTimeUtil.parseDate(date), date);
+        }
+        Assertions.assertEquals(20220228, DateTimeUtil.parseDateValue("20220231"));
+
+        for (String date : new String[]{"20221301", "20220132", "00000101", "2022010", "2022-1-1", "+2022010"}) {
+            Assertions.assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseDate(date), date);
+        }
+    }
+
+    @Test
+    void formatDate() {
+        Assertions.assertEquals("20220105", DateTimeUtil.formatDate(LocalDate.of(2022, 1, 5)));
+        Assertions.assertEquals("00010101", DateTimeUtil.formatDate(LocalDate.of(1, 1, 1)));
+        LocalDate large = LocalDate.of(10000, 1, 1);
+        Assertions.assertEquals(large.format(DateTimeUtil.YYYYMMDD), DateTimeUtil.formatDate(large));
+    }
+
+    @Test
+    void parseMinutes() {
+        for (String time : new String[]{"0000", "0001", "0959", "1200", "2359", "2400"}) {
+            LocalTime localTime = LocalTime.parse(time, DateTimeUtil.HHMM);
+            Assertions.assertEquals(localTime.getHour() * 60 + localTime.getMinute(), DateTimeUtil.parseMinutes(time));
+        }
+        for (String time : new String[]{"2460", "2500", "123", "12:00"}) {
+            Assertions.assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseMinutes(time), time);
+        }
+    }
+
+    @Test
+    void formatter() {
+        Assertions.assertSame(DateTimeUtil.YYYYMMDD, DateTimeUtil.formatter("yyyyMMdd"));
+        Assertions.assertSame(DateTimeUtil.formatter("yyyy-MM-dd"), DateTimeUtil.formatter("yyyy-MM-dd"));
+    }
+}